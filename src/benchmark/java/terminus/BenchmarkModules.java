@@ -0,0 +1,38 @@
+package terminus;
+
+import java.time.LocalTime;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+/**
+ * Synthetic modules shared by the benchmarks.
+ */
+public class BenchmarkModules {
+
+    public static final int MODULE_COUNT = 50;
+    public static final int CONTENT_COUNT = 200;
+
+    /**
+     * Creates modules CS1000 onwards, each with the same number of links and questions.
+     *
+     * @return The ModuleManager containing the modules.
+     */
+    public static ModuleManager createModules() {
+        ModuleManager moduleManager = new ModuleManager();
+        for (int i = 0; i < MODULE_COUNT; i++) {
+            String module = "CS" + (1000 + i);
+            moduleManager.addModule(module);
+            NusModule nusModule = moduleManager.getModule(module);
+            for (int j = 0; j < CONTENT_COUNT; j++) {
+                nusModule.getContentManager(Link.class).add(new Link("lecture " + j, "Monday",
+                        LocalTime.of(j % 24, j % 60), 2, "https://zoom.us/j/" + j));
+                Question question = new Question("question " + j, "answer " + j);
+                question.setWeight(j % 10);
+                nusModule.getContentManager(Question.class).add(question);
+            }
+        }
+        return moduleManager;
+    }
+}
@@ -0,0 +1,108 @@
+package terminus.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import terminus.common.CommonFormat;
+import terminus.exception.InvalidArgumentException;
+
+/**
+ * Benchmarks for managing, finding and listing the contents of a module.
+ */
+public class ContentBenchmark {
+
+    private static final int BULK_CONTENT_COUNT = 100000;
+    private static final int VIEW_QUESTION_COUNT = 50000;
+
+    @Test
+    void add_manyNotesWithDuplicateChecks() {
+        ContentManager<Note> notes = new ContentManager<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < BULK_CONTENT_COUNT; i++) {
+            String name = "note" + i;
+            if (!notes.isDuplicateName(name)) {
+                notes.add(new Note(name, name));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        assertEquals(BULK_CONTENT_COUNT, notes.getTotalContents());
+        System.out.printf("add     : %8.3f ms, %d notes%n", elapsedNanos / 1e6, notes.getTotalContents());
+    }
+
+    @Test
+    void deleteContent_largeQuestionBank() throws InvalidArgumentException {
+        for (ContentListEnum listType : ContentListEnum.values()) {
+            ContentManager<Question> questions = new ContentManager<>(listType);
+            for (int i = 0; i < BULK_CONTENT_COUNT; i++) {
+                questions.add(new Question("question " + i, "answer " + i));
+            }
+            long start = System.nanoTime();
+            String lastDeleted = null;
+            while (questions.getTotalContents() > 0) {
+                lastDeleted = questions.deleteContent((questions.getTotalContents() + 1) / 2);
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            // Deleting from the middle, rounded up, leaves the last question for last
+            assertEquals("question " + (BULK_CONTENT_COUNT - 1), lastDeleted);
+            System.out.printf("delete  : %8.3f ms, %s, %d questions%n", elapsedNanos / 1e6, listType,
+                    BULK_CONTENT_COUNT);
+        }
+    }
+
+    @Test
+    void findContents_manyNotes() {
+        ContentManager<Note> notes = new ContentManager<>();
+        for (int i = 0; i < BULK_CONTENT_COUNT; i++) {
+            notes.add(new Note("lecture " + i + " week " + (i % 13), "test"));
+        }
+        long start = System.nanoTime();
+        notes.findContents("lecture 0");
+        long indexNanos = System.nanoTime() - start;
+        System.out.printf("trigram : %8.3f ms to index %d names%n", indexNanos / 1e6, BULK_CONTENT_COUNT);
+        String[] fragments = {"lecture 4242 ", "ture 99999", "lectrue 31337", "lectrue 31337 week 0"};
+        for (int i = 0; i < fragments.length * 2; i++) {
+            String fragment = fragments[i % fragments.length];
+            start = System.nanoTime();
+            List<Note> matches = notes.findContents(fragment);
+            long findNanos = System.nanoTime() - start;
+            assertFalse(matches.isEmpty());
+            System.out.printf("find    : %8.3f ms, %d matches for '%s'%n", findNanos / 1e6, matches.size(),
+                    fragment);
+        }
+    }
+
+    @Test
+    void view_largeQuestionBank() throws IOException {
+        ContentManager<Question> questions = new ContentManager<>();
+        for (int i = 0; i < VIEW_QUESTION_COUNT; i++) {
+            questions.add(new Question("question " + i + " about sorting and graphs", "answer " + i));
+        }
+        for (int i = 0; i < 2; i++) {
+            // The second run shows the time once the listing code is compiled
+            long start = System.nanoTime();
+            int length = questions.listAllContents().length();
+            long listNanos = System.nanoTime() - start;
+            Writer out = new BufferedWriter(Writer.nullWriter());
+            int rowCount = 0;
+            start = System.nanoTime();
+            for (int page = 1; page <= questions.getPageCount(CommonFormat.CONTENT_PAGE_SIZE); page++) {
+                rowCount += questions.writeContents(out, page, CommonFormat.CONTENT_PAGE_SIZE);
+            }
+            out.flush();
+            long streamNanos = System.nanoTime() - start;
+            assertEquals(VIEW_QUESTION_COUNT, rowCount);
+            start = System.nanoTime();
+            questions.writeContents(out, questions.getPageCount(CommonFormat.CONTENT_PAGE_SIZE),
+                    CommonFormat.CONTENT_PAGE_SIZE);
+            out.flush();
+            long pageNanos = System.nanoTime() - start;
+            System.out.printf("view    : %8.3f ms as one %d char string, %8.3f ms streamed, %8.3f ms last page%n",
+                    listNanos / 1e6, length, streamNanos / 1e6, pageNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package terminus.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import terminus.common.CommonFormat;
+import terminus.content.ContentManager;
+import terminus.content.Link;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+/**
+ * Benchmarks for searching and finding contents across modules.
+ */
+public class SearchBenchmark {
+
+    private static final int NOTE_COUNT = 100000;
+    private static final int FIND_MODULE_COUNT = 5000;
+
+    @Test
+    void search_manyNotes() {
+        ModuleManager moduleManager = new ModuleManager();
+        moduleManager.addModule("CS2113");
+        ContentManager<Note> notes = moduleManager.getModule("CS2113").getContentManager(Note.class);
+        for (int i = 0; i < NOTE_COUNT; i++) {
+            notes.add(new Note("note" + i, "lecture " + (i % 100) + " topic " + i + " review week " + (i % 13)));
+        }
+        long start = System.nanoTime();
+        SearchIndex searchIndex = moduleManager.getSearchIndex();
+        long indexNanos = System.nanoTime() - start;
+        System.out.printf("index   : %8.3f ms, %d notes%n", indexNanos / 1e6, NOTE_COUNT);
+        String[] queries = {"lecture 42 topic 4242", "review week 7", "topic 99999", "missing"};
+        for (int i = 0; i < queries.length * 2; i++) {
+            // Each query runs twice, and the second run shows the time once the search code is compiled
+            String query = queries[i % queries.length];
+            start = System.nanoTime();
+            int resultCount = searchIndex.search(query, CommonFormat.MAX_SEARCH_RESULTS).size();
+            long searchNanos = System.nanoTime() - start;
+            System.out.printf("search  : %8.3f ms, %d results for '%s'%n", searchNanos / 1e6, resultCount, query);
+        }
+        assertFalse(searchIndex.search("topic 99999", CommonFormat.MAX_SEARCH_RESULTS).isEmpty());
+    }
+
+    @Test
+    void find_syntheticWorkspace() {
+        ModuleManager moduleManager = new ModuleManager();
+        for (int i = 0; i < FIND_MODULE_COUNT; i++) {
+            String module = "CS" + (10000 + i);
+            moduleManager.addModule(module);
+            NusModule nusModule = moduleManager.getModule(module);
+            for (int j = 0; j < 10; j++) {
+                nusModule.getContentManager(Note.class).add(new Note("note " + j,
+                        "Lecture notes " + j + " of " + module + " about sorting, graphs and dynamic programming."));
+                nusModule.getContentManager(Link.class).add(new Link("lecture " + j, "Monday",
+                        LocalTime.of(j % 24, 0), 1, "https://zoom.us/j/" + i + j));
+                nusModule.getContentManager(Question.class).add(new Question("question " + j + " of " + module,
+                        "answer " + j));
+            }
+        }
+        Pattern pattern = Pattern.compile(Pattern.quote("CS1234"), Pattern.CASE_INSENSITIVE);
+        ForkJoinPool serialPool = new ForkJoinPool(1);
+        for (int i = 0; i < 2; i++) {
+            // The second run shows the time once the scanning code is compiled
+            long start = System.nanoTime();
+            int serialCount = new ContentFinder(serialPool).find(moduleManager, pattern).size();
+            long serialNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            int parallelCount = new ContentFinder().find(moduleManager, pattern).size();
+            long parallelNanos = System.nanoTime() - start;
+            assertEquals(serialCount, parallelCount);
+            System.out.printf("find    : %8.3f ms with 1 thread, %8.3f ms with %d, %d modules, %d/%d results%n",
+                    serialNanos / 1e6, parallelNanos / 1e6, ForkJoinPool.getCommonPoolParallelism(),
+                    FIND_MODULE_COUNT, serialCount, parallelCount);
+        }
+        serialPool.shutdown();
+    }
+}
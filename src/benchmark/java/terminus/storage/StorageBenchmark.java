@@ -0,0 +1,191 @@
+package terminus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.BenchmarkModules;
+import terminus.TestFilePath;
+import terminus.content.ContentManager;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.exception.InvalidFileException;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+import terminus.storage.adapter.TypeAdapters;
+
+/**
+ * Benchmarks for writing and reading files in the storage layer.
+ */
+public class StorageBenchmark {
+
+    private static final int WRITE_COUNT = 200;
+    private static final int DATA_SIZE = 4096;
+    private static final int LOAD_COUNT = 5;
+    private static final int NOTE_COUNT = 5000;
+    private static final int TEXT_FILE_COUNT = 10000;
+
+    private Storage storage;
+    private Path folderPath;
+
+    @BeforeEach
+    void setup() throws InvalidFileException {
+        this.storage = new Storage();
+        this.folderPath = TestFilePath.RESOURCE_FOLDER.resolve("BENCHMARK");
+        storage.createFolder(folderPath);
+    }
+
+    @AfterEach
+    void reset() throws InvalidFileException {
+        storage.delete(folderPath);
+    }
+
+    @Test
+    void writeFile_fsyncPolicies() throws InvalidFileException, IOException {
+        String data = "a".repeat(DATA_SIZE);
+        Path filePath = folderPath.resolve("benchmark.txt");
+        for (FsyncPolicyEnum policy : FsyncPolicyEnum.values()) {
+            storage.setFsyncPolicy(policy);
+            long start = System.nanoTime();
+            for (int i = 0; i < WRITE_COUNT; i++) {
+                storage.writeFile(filePath, data);
+            }
+            printResult("writeFile", policy, System.nanoTime() - start);
+            assertEquals(DATA_SIZE, Files.size(filePath));
+
+            Path journalPath = folderPath.resolve("benchmark.journal");
+            start = System.nanoTime();
+            for (int i = 0; i < WRITE_COUNT; i++) {
+                storage.appendFile(journalPath, data);
+            }
+            printResult("appendFile", policy, System.nanoTime() - start);
+            assertEquals((long) DATA_SIZE * WRITE_COUNT, Files.size(journalPath));
+            storage.delete(journalPath);
+        }
+    }
+
+    @Test
+    void saveJson_storageFormats() throws InvalidFileException, IOException {
+        ModuleManager moduleManager = BenchmarkModules.createModules();
+        for (StorageFormatEnum format : StorageFormatEnum.values()) {
+            Path formatPath = folderPath.resolve(format.name());
+            JsonStorage jsonStorage = new JsonStorage(formatPath, "main.json");
+            jsonStorage.setFsyncPolicy(FsyncPolicyEnum.NEVER);
+            jsonStorage.setStorageFormat(format);
+            jsonStorage.createJson();
+
+            long start = System.nanoTime();
+            jsonStorage.saveJson(moduleManager);
+            long saveNanos = System.nanoTime() - start;
+
+            ModuleManager loaded = null;
+            start = System.nanoTime();
+            for (int i = 0; i < LOAD_COUNT; i++) {
+                loaded = jsonStorage.loadJson();
+            }
+            long loadNanos = (System.nanoTime() - start) / LOAD_COUNT;
+            assertEquals(BenchmarkModules.MODULE_COUNT, loaded.getAllModules().length);
+            assertEquals(BenchmarkModules.CONTENT_COUNT,
+                    loaded.getModule("CS1000").getContentManager(Question.class).getTotalContents());
+
+            long size = 0;
+            for (String module : moduleManager.getAllModules()) {
+                String fileName = format == StorageFormatEnum.BINARY
+                        ? BinaryStorage.MODULE_FILE_NAME : JsonStorage.MODULE_FILE_NAME;
+                size += Files.size(formatPath.resolve(module).resolve(fileName));
+            }
+            System.out.printf("%-7s : save %8.3f ms, load %8.3f ms, size %8d bytes%n",
+                    format, saveNanos / 1e6, loadNanos / 1e6, size);
+        }
+    }
+
+    @Test
+    void toJson_typeAdapters() {
+        NusModule module = BenchmarkModules.createModules().getModule("CS1000");
+        Gson reflectiveGson = new Gson();
+        Gson adapterGson = TypeAdapters.createGsonBuilder().create();
+        for (Gson gson : new Gson[] {reflectiveGson, adapterGson}) {
+            String name = gson == reflectiveGson ? "reflect" : "adapter";
+            String json = gson.toJson(module);
+            long start = System.nanoTime();
+            for (int i = 0; i < WRITE_COUNT; i++) {
+                gson.toJson(module);
+            }
+            long writeNanos = System.nanoTime() - start;
+            NusModule loaded = null;
+            start = System.nanoTime();
+            for (int i = 0; i < WRITE_COUNT; i++) {
+                loaded = gson.fromJson(json, NusModule.class);
+            }
+            long readNanos = System.nanoTime() - start;
+            assertEquals(BenchmarkModules.CONTENT_COUNT, loaded.getContentManager(Question.class).getTotalContents());
+            System.out.printf("%-7s : toJson %8.3f ms/op, fromJson %8.3f ms/op, size %8d chars%n", name,
+                    writeNanos / 1e6 / WRITE_COUNT, readNanos / 1e6 / WRITE_COUNT, json.length());
+        }
+    }
+
+    @Test
+    void loadNotes_reloadAfterFewChanges() throws InvalidFileException {
+        NoteStorage noteStorage = new NoteStorage(folderPath);
+        noteStorage.setFsyncPolicy(FsyncPolicyEnum.NEVER);
+        Path moduleFolder = folderPath.resolve("CS1000");
+        storage.createFolder(moduleFolder);
+        for (int i = 0; i < NOTE_COUNT; i++) {
+            noteStorage.writeFile(moduleFolder.resolve("note" + i + ".txt"), "note " + i);
+        }
+        ContentManager<Note> notes = new ContentManager<>();
+        long start = System.nanoTime();
+        noteStorage.loadNotes("CS1000", notes);
+        long loadNanos = System.nanoTime() - start;
+
+        noteStorage.writeFile(moduleFolder.resolve("note0.txt"), "changed note");
+        noteStorage.writeFile(moduleFolder.resolve("new.txt"), "new note");
+        start = System.nanoTime();
+        noteStorage.loadNotes("CS1000", notes);
+        long reloadNanos = System.nanoTime() - start;
+        assertEquals(NOTE_COUNT + 1, notes.getTotalContents());
+        System.out.printf("notes   : load %8.3f ms, reload %8.3f ms, %d notes%n", loadNanos / 1e6,
+                reloadNanos / 1e6, notes.getTotalContents());
+    }
+
+    @Test
+    void isValidTextFile_contentTypeDetectors() throws IOException, InvalidFileException {
+        for (int i = 0; i < TEXT_FILE_COUNT; i++) {
+            storage.writeFile(folderPath.resolve("note" + i + ".txt"), "note " + i);
+        }
+        File[] files = storage.getListOfFiles(folderPath);
+        long start = System.nanoTime();
+        int probedCount = 0;
+        for (File file : files) {
+            probedCount += "text/plain".equals(Files.probeContentType(file.toPath())) ? 1 : 0;
+        }
+        long probeNanos = System.nanoTime() - start;
+        TextFileDetector detector = new TextFileDetector();
+        start = System.nanoTime();
+        int detectedCount = 0;
+        for (File file : files) {
+            detectedCount += detector.isTextFile(file) ? 1 : 0;
+        }
+        long detectNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (File file : files) {
+            detector.isTextFile(file);
+        }
+        long cachedNanos = System.nanoTime() - start;
+        // Probing depends on the MIME types of the platform, so only the detector is checked
+        assertEquals(TEXT_FILE_COUNT, detectedCount);
+        System.out.printf("probe   : %8.3f ms, %d text files%n", probeNanos / 1e6, probedCount);
+        System.out.printf("detect  : %8.3f ms, %d text files, cached %8.3f ms%n", detectNanos / 1e6, detectedCount,
+                cachedNanos / 1e6);
+    }
+
+    private void printResult(String operation, FsyncPolicyEnum policy, long elapsedNanos) {
+        System.out.printf("%-10s %-7s : %8.3f ms/op%n", operation, policy, elapsedNanos / 1e6 / WRITE_COUNT);
+    }
+}
@@ -0,0 +1,36 @@
+package terminus.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import terminus.BenchmarkModules;
+import terminus.cache.RenderCache;
+import terminus.module.ModuleManager;
+
+/**
+ * Benchmarks for rendering the schedules of the timetable.
+ */
+public class TimetableBenchmark {
+
+    private static final int RENDER_COUNT = 3;
+
+    @Test
+    void timetable_cachedRenderings() {
+        ModuleManager moduleManager = BenchmarkModules.createModules();
+        Timetable timetable = new Timetable(moduleManager);
+        for (int i = 0; i < RENDER_COUNT; i++) {
+            // The first run formats the schedules, and the others reuse them until a schedule changes
+            long start = System.nanoTime();
+            timetable.getWeeklySchedule();
+            long weekNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            timetable.getDailySchedule("Monday");
+            long dayNanos = System.nanoTime() - start;
+            System.out.printf("render  : %8.3f ms week, %8.3f ms day, %d modules%n", weekNanos / 1e6, dayNanos / 1e6,
+                    BenchmarkModules.MODULE_COUNT);
+        }
+        RenderCache<String> weekCache = moduleManager.getWeekCache();
+        assertEquals((RENDER_COUNT - 1) / (double) RENDER_COUNT, weekCache.getHitRate());
+        System.out.printf("render  : %.1f%% week hit rate%n", weekCache.getHitRate() * 100);
+    }
+}
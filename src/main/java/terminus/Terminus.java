@@ -7,12 +7,19 @@ import terminus.command.Command;
 import terminus.command.CommandResult;
 import terminus.common.Messages;
 import terminus.common.TerminusLogger;
+import terminus.content.ContentListEnum;
+import terminus.content.Link;
+import terminus.content.Note;
+import terminus.content.Question;
 import terminus.exception.InvalidArgumentException;
 import terminus.exception.InvalidCommandException;
 import terminus.exception.InvalidFileException;
 import terminus.module.ModuleManager;
+import terminus.module.NusModule;
 import terminus.parser.CommandParser;
 import terminus.parser.MainCommandParser;
+import terminus.storage.FsyncPolicyEnum;
+import terminus.storage.StorageFormatEnum;
 import terminus.storage.StorageManager;
 import terminus.ui.Ui;
 
@@ -28,6 +35,9 @@ public class Terminus {
 
     private static final Path DATA_DIRECTORY = Path.of(System.getProperty("user.dir"), "data");
     private static final String MAIN_JSON = "main.json";
+    private static final String FSYNC_PROPERTY = "terminus.fsync";
+    private static final String FORMAT_PROPERTY = "terminus.format";
+    private static final String TREE_PROPERTY = "terminus.tree";
 
     /**
      * Enters the main entry-point for the terminus.Terminus application.
@@ -72,8 +82,12 @@ public class Terminus {
         TerminusLogger.info("Starting Terminus...");
         try {
             this.workspace = "";
+            setContentListTypes();
             this.storageManager = new StorageManager(dataDirectory, MAIN_JSON);
+            this.storageManager.setFsyncPolicy(getFsyncPolicy());
+            this.storageManager.setStorageFormat(getStorageFormat());
             this.moduleManager = this.storageManager.initialize();
+            this.storageManager.startWatchingNotes();
         } catch (InvalidFileException e) {
             TerminusLogger.warning("Data file loading has failed.", e.fillInStackTrace());
             ui.printSection(e.getMessage(),
@@ -94,6 +108,69 @@ public class Terminus {
         TerminusLogger.info("Terminus has started.");
     }
 
+    /**
+     * Returns the fsync policy given by the 'terminus.fsync' system property, or ALWAYS if it is not set or invalid.
+     *
+     * @return The fsync policy to be used for all file writes.
+     */
+    private FsyncPolicyEnum getFsyncPolicy() {
+        String policy = System.getProperty(FSYNC_PROPERTY);
+        if (policy == null) {
+            return FsyncPolicyEnum.ALWAYS;
+        }
+        try {
+            return FsyncPolicyEnum.valueOf(policy.strip().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            TerminusLogger.warning(String.format("Invalid fsync policy : %s", policy));
+            return FsyncPolicyEnum.ALWAYS;
+        }
+    }
+
+    /**
+     * Returns the storage format given by the 'terminus.format' system property, or JSON if it is not set or invalid.
+     *
+     * @return The storage format of the module data files.
+     */
+    private StorageFormatEnum getStorageFormat() {
+        String format = System.getProperty(FORMAT_PROPERTY);
+        if (format == null) {
+            return StorageFormatEnum.JSON;
+        }
+        try {
+            return StorageFormatEnum.valueOf(format.strip().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            TerminusLogger.warning(String.format("Invalid storage format : %s", format));
+            return StorageFormatEnum.JSON;
+        }
+    }
+
+    /**
+     * Stores the content types given by the 'terminus.tree' system property, separated by commas, in trees instead of
+     * arrays. For example, 'question' speeds up deleting from large question banks.
+     */
+    private void setContentListTypes() {
+        String types = System.getProperty(TREE_PROPERTY);
+        if (types == null) {
+            return;
+        }
+        for (String type : types.split(",")) {
+            switch (type.strip().toLowerCase()) {
+            case "note":
+                NusModule.setContentListType(Note.class, ContentListEnum.TREE);
+                break;
+            case "link":
+                NusModule.setContentListType(Link.class, ContentListEnum.TREE);
+                break;
+            case "question":
+                NusModule.setContentListType(Question.class, ContentListEnum.TREE);
+                break;
+            default:
+                TerminusLogger.warning(String.format("Invalid content type : %s", type));
+                break;
+            }
+        }
+    }
+
     CommandResult handleUserInput(String input) {
         try {
             Command command = parser.parseCommand(input);
@@ -121,7 +198,7 @@ public class Terminus {
             workspace = parser.getWorkspace();
             ui.printParserBanner(parser, moduleManager);
         } else {
-            ui.printSection(commandResult.getMessage());
+            ui.printResult(commandResult);
         }
     }
 
@@ -148,6 +225,7 @@ public class Terminus {
                 assert workspace != null : "Workspace should always have a value";
 
                 String input = ui.requestCommand(workspace);
+                storageManager.applyNoteChanges(moduleManager);
                 CommandResult commandResult = handleUserInput(input);
 
                 // Error occurred, just continue to next command.
@@ -0,0 +1,112 @@
+package terminus.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * RenderCache class to keep formatted lists so that they are not formatted again until their data changes.
+ * Each rendering is stored with the version of the data it was formatted from, and is only used again when the
+ * data still has that version. Versions are taken from a single counter, so every change of any data gets a version
+ * higher than all versions before it.
+ *
+ * @param <K> Key type.
+ */
+public class RenderCache<K> {
+
+    private static long lastVersion;
+
+    private final String name;
+    private final LinkedHashMap<K, Rendering> renderings;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a RenderCache object, which drops its least recently used rendering once it holds more than the given
+     * number of them.
+     *
+     * @param name The name of the cache shown in its statistics.
+     * @param capacity The maximum number of renderings kept.
+     */
+    public RenderCache(String name, int capacity) {
+        this.name = name;
+        this.renderings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Rendering> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a new version, higher than all versions returned before.
+     *
+     * @return The new version.
+     */
+    public static synchronized long nextVersion() {
+        return ++lastVersion;
+    }
+
+    /**
+     * Returns the rendering stored under the given key if it was formatted from the current version of the data.
+     * Otherwise, the data is formatted again by the renderer, and the result is stored in place of the old one.
+     * The version is read again after formatting, as formatting may load data that was not loaded yet.
+     *
+     * @param key The key of the rendering.
+     * @param version The function returning the current version of the data.
+     * @param renderer The function formatting the data, which may return null.
+     * @return The rendering of the current version of the data.
+     */
+    public String get(K key, LongSupplier version, Supplier<String> renderer) {
+        Rendering rendering = renderings.get(key);
+        if (rendering != null && rendering.version == version.getAsLong()) {
+            hitCount++;
+            return rendering.text;
+        }
+        missCount++;
+        String text = renderer.get();
+        renderings.put(key, new Rendering(version.getAsLong(), text));
+        return text;
+    }
+
+    /**
+     * Removes all renderings, while keeping the statistics.
+     */
+    public void clear() {
+        renderings.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that used a stored rendering.
+     *
+     * @return The hit rate between 0 and 1, which is 0 if there were no lookups.
+     */
+    public double getHitRate() {
+        long lookupCount = hitCount + missCount;
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    private static class Rendering {
+
+        private final long version;
+        private final String text;
+
+        private Rendering(long version, String text) {
+            this.version = version;
+            this.text = text;
+        }
+    }
+}
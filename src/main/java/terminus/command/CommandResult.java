@@ -1,5 +1,7 @@
 package terminus.command;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import terminus.parser.CommandParser;
 import terminus.storage.StorageActionEnum;
 import terminus.storage.StorageTypeEnum;
@@ -9,6 +11,7 @@ public class CommandResult {
     protected boolean hasChange;
     protected CommandParser newCommandParser;
     protected String[] message;
+    protected MessageWriter messageWriter;
     protected boolean isExit;
 
     protected StorageActionEnum storageAction;
@@ -21,6 +24,16 @@ public class CommandResult {
         this(false, null, message);
     }
 
+    /**
+     * Creates a CommandResult object whose message is written by the given writer when it is printed.
+     *
+     * @param messageWriter The writer of the message.
+     */
+    public CommandResult(MessageWriter messageWriter) {
+        this(false, null);
+        this.messageWriter = messageWriter;
+    }
+
     public CommandResult(CommandParser parser) {
         this(false, parser);
     }
@@ -60,7 +73,34 @@ public class CommandResult {
      * @return The message that the command wishes to output.
      */
     public String[] getMessage() {
-        return message;
+        if (messageWriter == null) {
+            return message;
+        }
+        StringBuilder result = new StringBuilder();
+        try {
+            messageWriter.write(result);
+        } catch (IOException e) {
+            // Appending to a StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return new String[]{result.toString()};
+    }
+
+    /**
+     * Writes the message that the command wishes to output to the given sink, with each string on its own line.
+     *
+     * @param sink The sink the message is written to.
+     * @throws IOException when the sink fails to be written to.
+     */
+    public void writeMessage(Appendable sink) throws IOException {
+        if (messageWriter != null) {
+            messageWriter.write(sink);
+            sink.append(System.lineSeparator());
+            return;
+        }
+        for (String line : message) {
+            sink.append(line).append(System.lineSeparator());
+        }
     }
 
     /**
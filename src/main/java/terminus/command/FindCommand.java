@@ -0,0 +1,102 @@
+package terminus.command;
+
+import static terminus.common.CommonUtils.isStringNullOrEmpty;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import terminus.common.CommonFormat;
+import terminus.common.Messages;
+import terminus.common.TerminusLogger;
+import terminus.content.Link;
+import terminus.content.Note;
+import terminus.exception.InvalidArgumentException;
+import terminus.module.ModuleManager;
+import terminus.search.ContentFinder;
+import terminus.search.FindResult;
+
+/**
+ * FindCommand class which will find the notes, links and questions of all modules containing the text given by the
+ * user, ignoring case. Unlike the search command, it matches any part of the text instead of whole words.
+ */
+public class FindCommand extends Command {
+
+    private Pattern pattern;
+    private String text;
+
+    /**
+     * Returns the format of the command.
+     *
+     * @return The string object holding the appropriate format for the find command.
+     */
+    @Override
+    public String getFormat() {
+        return CommonFormat.COMMAND_FIND_FORMAT;
+    }
+
+    /**
+     * Returns the description for the command.
+     *
+     * @return The String object containing the description for the find command.
+     */
+    @Override
+    public String getHelpMessage() {
+        return Messages.MESSAGE_COMMAND_FIND;
+    }
+
+    /**
+     * Parses remaining arguments for the find command. The text is compiled into a pattern once, which is then
+     * matched against all contents.
+     *
+     * @param arguments The string arguments to be parsed in to the respective fields.
+     * @throws InvalidArgumentException when no text is given.
+     */
+    @Override
+    public void parseArguments(String arguments) throws InvalidArgumentException {
+        if (isStringNullOrEmpty(arguments)) {
+            TerminusLogger.warning("Failed to parse arguments: no text given");
+            throw new InvalidArgumentException(this.getFormat(), Messages.ERROR_MESSAGE_MISSING_ARGUMENTS);
+        }
+        text = arguments.strip();
+        pattern = Pattern.compile(Pattern.quote(text), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        TerminusLogger.info(String.format("Parsed arguments (text = %s) to Find Command", text));
+    }
+
+    /**
+     * Executes the find command. Prints the matching contents with their module and index, by module.
+     *
+     * @param moduleManager The NusModule contain the ContentManager of all notes and schedules.
+     * @return CommandResult to indicate the success and additional information about the execution.
+     */
+    @Override
+    public CommandResult execute(ModuleManager moduleManager) {
+        assert pattern != null;
+        List<FindResult> results = new ContentFinder().find(moduleManager, pattern);
+        TerminusLogger.info(String.format("Found %d content(s) containing: %s", results.size(), text));
+        if (results.isEmpty()) {
+            return new CommandResult(String.format(Messages.MESSAGE_RESPONSE_FIND_EMPTY, text));
+        }
+        StringBuilder result = new StringBuilder(String.format(Messages.MESSAGE_RESPONSE_FIND, text));
+        int shownCount = Math.min(results.size(), CommonFormat.MAX_FIND_RESULTS);
+        for (int i = 0; i < shownCount; i++) {
+            FindResult findResult = results.get(i);
+            result.append(String.format(Messages.MESSAGE_RESPONSE_SEARCH_RESULT, i + 1, findResult.getModuleName(),
+                    getTypeName(findResult), findResult.getIndex(), findResult.getContent().getName()));
+        }
+        if (results.size() > shownCount) {
+            result.append(String.format(Messages.MESSAGE_RESPONSE_FIND_MORE, results.size() - shownCount));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Returns the name of the workspace of the result, where it can be viewed by its index.
+     */
+    private String getTypeName(FindResult findResult) {
+        if (findResult.getType() == Note.class) {
+            return CommonFormat.COMMAND_NOTE;
+        } else if (findResult.getType() == Link.class) {
+            return CommonFormat.COMMAND_SCHEDULE;
+        }
+        return CommonFormat.COMMAND_QUESTION;
+    }
+}
@@ -1,8 +1,11 @@
 package terminus.command;
 
+import java.util.Arrays;
+import java.util.List;
 import terminus.common.CommonFormat;
 import terminus.common.CommonUtils;
 import terminus.common.Messages;
+import terminus.common.TerminusLogger;
 import terminus.exception.InvalidArgumentException;
 import terminus.exception.InvalidCommandException;
 import terminus.module.ModuleManager;
@@ -55,10 +58,34 @@ public class GoCommand extends WorkspaceCommand {
     public CommandResult execute(ModuleManager moduleManager)
         throws InvalidCommandException, InvalidArgumentException {
         NusModule module = moduleManager.getModule(moduleName);
-        if (module == null) {
+        String workspace = module == null ? findModuleName(moduleManager) : moduleName;
+        commandMap.setWorkspace(workspace);
+        return super.execute(moduleManager);
+    }
+
+    /**
+     * Returns the name of the only module whose name matches the given module name as a fragment.
+     *
+     * @param moduleManager The ModuleManager that contains the NusModules.
+     * @return The full name of the matching module.
+     * @throws InvalidArgumentException when no module or more than one module matches.
+     */
+    private String findModuleName(ModuleManager moduleManager) throws InvalidArgumentException {
+        List<String> matches = moduleManager.findModules(moduleName);
+        if (matches.isEmpty()) {
             throw new InvalidArgumentException(Messages.ERROR_MESSAGE_MODULE_NOT_FOUND);
         }
-        commandMap.setWorkspace(moduleName);
-        return super.execute(moduleManager);
+        if (matches.size() > 1) {
+            List<String> allModules = Arrays.asList(moduleManager.getAllModules());
+            StringBuilder candidates = new StringBuilder();
+            for (int i = 0; i < Math.min(matches.size(), CommonFormat.MAX_NAME_MATCHES); i++) {
+                candidates.append(String.format(Messages.MESSAGE_RESPONSE_MATCHING_NAME,
+                        allModules.indexOf(matches.get(i)) + 1, matches.get(i)));
+            }
+            throw new InvalidArgumentException(String.format(Messages.ERROR_MESSAGE_AMBIGUOUS_NAME, moduleName,
+                    candidates));
+        }
+        TerminusLogger.info(String.format("Module %s found for %s", matches.get(0), moduleName));
+        return matches.get(0);
     }
 }
@@ -0,0 +1,19 @@
+package terminus.command;
+
+import java.io.IOException;
+
+/**
+ * MessageWriter interface for a message of a CommandResult that is written to the output as it is formatted,
+ * instead of being kept as a string.
+ */
+@FunctionalInterface
+public interface MessageWriter {
+
+    /**
+     * Writes the message to the given sink.
+     *
+     * @param sink The sink the message is written to.
+     * @throws IOException when the sink fails to be written to.
+     */
+    void write(Appendable sink) throws IOException;
+}
@@ -0,0 +1,101 @@
+package terminus.command;
+
+import static terminus.common.CommonUtils.isStringNullOrEmpty;
+
+import java.util.List;
+import terminus.common.CommonFormat;
+import terminus.common.Messages;
+import terminus.common.TerminusLogger;
+import terminus.content.Content;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.exception.InvalidArgumentException;
+import terminus.module.ModuleManager;
+import terminus.search.SearchResult;
+
+/**
+ * SearchCommand class which will find the notes and questions of all modules containing the words given by the
+ * user, through the search index of the ModuleManager.
+ */
+public class SearchCommand extends Command {
+
+    private String query;
+
+    /**
+     * Returns the format of the command.
+     *
+     * @return The string object holding the appropriate format for the search command.
+     */
+    @Override
+    public String getFormat() {
+        return CommonFormat.COMMAND_SEARCH_FORMAT;
+    }
+
+    /**
+     * Returns the description for the command.
+     *
+     * @return The String object containing the description for the search command.
+     */
+    @Override
+    public String getHelpMessage() {
+        return Messages.MESSAGE_COMMAND_SEARCH;
+    }
+
+    /**
+     * Parses remaining arguments for the search command.
+     *
+     * @param arguments The string arguments to be parsed in to the respective fields.
+     * @throws InvalidArgumentException when no keywords are given.
+     */
+    @Override
+    public void parseArguments(String arguments) throws InvalidArgumentException {
+        if (isStringNullOrEmpty(arguments)) {
+            TerminusLogger.warning("Failed to parse arguments: no keywords given");
+            throw new InvalidArgumentException(this.getFormat(), Messages.ERROR_MESSAGE_MISSING_ARGUMENTS);
+        }
+        query = arguments.strip();
+        TerminusLogger.info(String.format("Parsed arguments (query = %s) to Search Command", query));
+    }
+
+    /**
+     * Executes the search command. Prints the best matching notes and questions with their module and index.
+     *
+     * @param moduleManager The NusModule contain the ContentManager of all notes and schedules.
+     * @return CommandResult to indicate the success and additional information about the execution.
+     */
+    @Override
+    public CommandResult execute(ModuleManager moduleManager) {
+        assert query != null;
+        List<SearchResult> results = moduleManager.getSearchIndex().search(query, CommonFormat.MAX_SEARCH_RESULTS);
+        StringBuilder result = new StringBuilder(String.format(Messages.MESSAGE_RESPONSE_SEARCH, query));
+        int rank = 0;
+        for (SearchResult searchResult : results) {
+            String moduleName = moduleManager.getModuleName(searchResult.getModule());
+            Content content = searchResult.getContent();
+            String type = content instanceof Note ? CommonFormat.COMMAND_NOTE : CommonFormat.COMMAND_QUESTION;
+            int index = getIndex(searchResult);
+            if (moduleName == null || index == 0) {
+                continue;
+            }
+            rank++;
+            result.append(String.format(Messages.MESSAGE_RESPONSE_SEARCH_RESULT, rank, moduleName, type, index,
+                    content.getName()));
+        }
+        TerminusLogger.info(String.format("Found %d result(s) for search query: %s", rank, query));
+        if (rank == 0) {
+            return new CommandResult(String.format(Messages.MESSAGE_RESPONSE_SEARCH_EMPTY, query));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Returns the index of the result in its module as shown by the view command, or 0 if it is not found.
+     */
+    private int getIndex(SearchResult searchResult) {
+        Content content = searchResult.getContent();
+        if (content instanceof Note) {
+            return searchResult.getModule().getContentManager(Note.class).indexOf((Note) content) + 1;
+        }
+        return searchResult.getModule().getContentManager(Question.class).indexOf((Question) content) + 1;
+    }
+}
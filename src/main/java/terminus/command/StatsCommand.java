@@ -0,0 +1,51 @@
+package terminus.command;
+
+import terminus.cache.RenderCache;
+import terminus.common.CommonFormat;
+import terminus.common.Messages;
+import terminus.common.TerminusLogger;
+import terminus.module.ModuleManager;
+
+/**
+ * StatsCommand class which will show how often the formatted schedules of the timetable command and the main banner
+ * were reused instead of being formatted again.
+ */
+public class StatsCommand extends Command {
+
+    /**
+     * Returns the format of the command.
+     *
+     * @return The string object holding the appropriate format for the stats command.
+     */
+    @Override
+    public String getFormat() {
+        return CommonFormat.COMMAND_STATS_FORMAT;
+    }
+
+    /**
+     * Returns the description for the command.
+     *
+     * @return The String object containing the description for the stats command.
+     */
+    @Override
+    public String getHelpMessage() {
+        return Messages.MESSAGE_COMMAND_STATS;
+    }
+
+    /**
+     * Executes the stats command. Prints the hits, misses and hit rate of each render cache.
+     *
+     * @param moduleManager The NusModule contain the ContentManager of all notes and schedules.
+     * @return CommandResult to indicate the success and additional information about the execution.
+     */
+    @Override
+    public CommandResult execute(ModuleManager moduleManager) {
+        StringBuilder result = new StringBuilder(Messages.MESSAGE_RESPONSE_STATS);
+        for (RenderCache<?> cache : moduleManager.getRenderCaches()) {
+            result.append(String.format(Messages.MESSAGE_RESPONSE_STATS_CACHE, cache.getName(), cache.getHitCount(),
+                    cache.getMissCount(), cache.getHitRate() * 100));
+        }
+        TerminusLogger.info("Executing Stats Command");
+        return new CommandResult(result.toString());
+    }
+}
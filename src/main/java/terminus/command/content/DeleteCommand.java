@@ -1,5 +1,7 @@
 package terminus.command.content;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import terminus.command.Command;
 import terminus.command.CommandResult;
 import terminus.common.CommonFormat;
@@ -19,9 +21,16 @@ import terminus.module.NusModule;
  */
 public class DeleteCommand<T extends Content> extends Command {
 
+    private static final Pattern NAME_FRAGMENT = Pattern.compile(CommonFormat.NAME_FRAGMENT_REGEX_FORMAT);
+
     private final Class<T> type;
     protected int itemNumber;
 
+    /**
+     * Fragment of the name of the Content object to be deleted, or null if it is given by its number.
+     */
+    protected String nameFragment;
+
     protected String deletedContentName;
 
     /**
@@ -45,7 +54,7 @@ public class DeleteCommand<T extends Content> extends Command {
 
     /**
      * Parses the arguments to the DeleteCommand object. The arguments are attributes to identify a Content object in an
-     * ArrayList.
+     * ArrayList, either its number or a fragment of its name in quotes.
      *
      * @param arguments The string arguments to be parsed in to the respective fields.
      * @throws InvalidArgumentException when argument provided is empty, non-numeric or less than 1.
@@ -56,6 +65,12 @@ public class DeleteCommand<T extends Content> extends Command {
             throw new InvalidArgumentException(this.getFormat(), Messages.ERROR_MESSAGE_MISSING_ARGUMENTS);
         }
         TerminusLogger.info("Parsing delete arguments");
+        nameFragment = null;
+        Matcher fragmentMatcher = NAME_FRAGMENT.matcher(arguments.strip());
+        if (fragmentMatcher.matches()) {
+            nameFragment = fragmentMatcher.group("fragment");
+            return;
+        }
         try {
             itemNumber = Integer.parseInt(arguments);
         } catch (NumberFormatException e) {
@@ -74,7 +89,8 @@ public class DeleteCommand<T extends Content> extends Command {
      *
      * @param moduleManager The ModuleManager that contains the NusModules.
      * @return CommandResult to indicate the success and additional information about the execution.
-     * @throws InvalidArgumentException when argument provided is index out of bounds of the ArrayList.
+     * @throws InvalidArgumentException when argument provided is index out of bounds of the ArrayList, or the name
+     *     fragment does not match exactly one Content object.
      */
     @Override
     public CommandResult execute(ModuleManager moduleManager) throws InvalidArgumentException {
@@ -84,6 +100,9 @@ public class DeleteCommand<T extends Content> extends Command {
         assert contentManager != null;
 
         TerminusLogger.info("Executing Delete Command");
+        if (nameFragment != null) {
+            itemNumber = contentManager.getContentNumber(nameFragment);
+        }
         this.deletedContentName = contentManager.deleteContent(itemNumber);
         assert deletedContentName != null && !deletedContentName.isBlank();
         TerminusLogger.info(
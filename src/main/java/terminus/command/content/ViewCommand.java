@@ -1,5 +1,7 @@
 package terminus.command.content;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import terminus.command.Command;
 import terminus.command.CommandResult;
 import terminus.common.CommonFormat;
@@ -19,14 +21,28 @@ import terminus.module.NusModule;
  */
 public class ViewCommand<T extends Content> extends Command {
 
+    private static final Pattern NAME_FRAGMENT = Pattern.compile(CommonFormat.NAME_FRAGMENT_REGEX_FORMAT);
+    private static final Pattern CONTENT_PAGE = Pattern.compile(CommonFormat.CONTENT_PAGE_REGEX_FORMAT);
+
     private final Class<T> type;
 
-    private int itemNumber;
+    protected int itemNumber;
+
+    /**
+     * Fragment of the name of the Content object to be viewed, or null if it is given by its number.
+     */
+    protected String nameFragment;
 
     /**
      * Determines whether to print the list of all Content objects or just the specified one.
      */
-    private boolean displayAll;
+    protected boolean displayAll;
+
+    /**
+     * Number of the page of the list to be printed, where each page has {@link CommonFormat#CONTENT_PAGE_SIZE}
+     * Content objects.
+     */
+    protected int pageNumber;
 
     /**
      * Creates a ViewModuleCommand object with referenced to the provided class type.
@@ -50,19 +66,33 @@ public class ViewCommand<T extends Content> extends Command {
 
     /**
      * Parses the arguments to the ViewModuleCommand object. The arguments are attributes to identify a Content object
-     * in an ArrayList. The arguments can be empty which refers to viewing a list all Content object in an ArrayList
-     * instead.
+     * in an ArrayList, either its number or a fragment of its name in quotes. The arguments can be empty which refers
+     * to viewing the first page of the list of all Content objects instead, or a page number after '--page'.
      *
      * @param arguments The string arguments to be parsed in to the respective fields.
      * @throws InvalidArgumentException when a non-empty argument provided is non-numeric or less than 1.
      */
     @Override
     public void parseArguments(String arguments) throws InvalidArgumentException {
+        nameFragment = null;
+        pageNumber = 1;
         if (CommonUtils.isStringNullOrEmpty(arguments)) {
             displayAll = true;
             return;
         }
         TerminusLogger.info("Parsing view arguments");
+        Matcher pageMatcher = CONTENT_PAGE.matcher(arguments.strip());
+        if (pageMatcher.matches()) {
+            parsePageNumber(pageMatcher.group("page"));
+            displayAll = true;
+            return;
+        }
+        Matcher fragmentMatcher = NAME_FRAGMENT.matcher(arguments.strip());
+        if (fragmentMatcher.matches()) {
+            nameFragment = fragmentMatcher.group("fragment");
+            displayAll = false;
+            return;
+        }
         try {
             itemNumber = Integer.parseInt(arguments);
             displayAll = false;
@@ -76,6 +106,19 @@ public class ViewCommand<T extends Content> extends Command {
         }
     }
 
+    private void parsePageNumber(String page) throws InvalidArgumentException {
+        try {
+            pageNumber = Integer.parseInt(page);
+        } catch (NumberFormatException e) {
+            TerminusLogger.warning(String.format("Failed to parse view pageNumber : %s", page));
+            throw new InvalidArgumentException(this.getFormat(), Messages.ERROR_MESSAGE_INVALID_NUMBER);
+        }
+        if (pageNumber <= 0) {
+            TerminusLogger.warning(String.format("Invalid pageNumber : %d", pageNumber));
+            throw new InvalidArgumentException(Messages.ERROR_MESSAGE_INVALID_NUMBER);
+        }
+    }
+
     /**
      * Executes the view command. Prints the relevant response to the Ui.
      *
@@ -85,23 +128,50 @@ public class ViewCommand<T extends Content> extends Command {
      */
     @Override
     public CommandResult execute(ModuleManager moduleManager) throws InvalidArgumentException {
-        StringBuilder result = new StringBuilder();
         assert getModuleName() != null;
         NusModule module = moduleManager.getModule(getModuleName());
         ContentManager<T> contentManager = module.getContentManager(type);
         if (displayAll) {
-            String fullList = contentManager.listAllContents();
-            assert fullList != null;
-            if (fullList.isBlank()) {
-                result.append(Messages.EMPTY_CONTENT_LIST_MESSAGE);
-            } else {
-                result.append(Messages.CONTENT_MESSAGE_HEADER);
-                result.append(contentManager.listAllContents());
-                result.append(Messages.CONTENT_MESSAGE_FOOTER);
+            return viewPage(contentManager);
+        }
+        resolveItemNumber(contentManager);
+        return new CommandResult(contentManager.getContentData(itemNumber));
+    }
+
+    /**
+     * Returns the result listing a page of the Content objects. The rows of the page are only formatted when the
+     * result is printed, and are written straight to the output.
+     */
+    private CommandResult viewPage(ContentManager<T> contentManager) throws InvalidArgumentException {
+        int pageCount = contentManager.getPageCount(CommonFormat.CONTENT_PAGE_SIZE);
+        if (pageCount == 0) {
+            return new CommandResult(Messages.EMPTY_CONTENT_LIST_MESSAGE);
+        }
+        if (pageNumber > pageCount) {
+            TerminusLogger.warning(String.format("Invalid pageNumber : %d of %d", pageNumber, pageCount));
+            throw new InvalidArgumentException(String.format(Messages.ERROR_MESSAGE_INVALID_PAGE, pageCount));
+        }
+        int page = pageNumber;
+        TerminusLogger.info(String.format("Viewing page %d of %d", page, pageCount));
+        return new CommandResult(sink -> {
+            sink.append(Messages.CONTENT_MESSAGE_HEADER);
+            contentManager.writeContents(sink, page, CommonFormat.CONTENT_PAGE_SIZE);
+            if (pageCount > 1) {
+                sink.append(String.format(Messages.MESSAGE_RESPONSE_CONTENT_PAGE, page, pageCount));
             }
-        } else {
-            result.append(contentManager.getContentData(itemNumber));
+            sink.append(Messages.CONTENT_MESSAGE_FOOTER);
+        });
+    }
+
+    /**
+     * Finds the number of the Content object whose name matches the name fragment, if one was given.
+     *
+     * @param contentManager The ContentManager containing the Content object.
+     * @throws InvalidArgumentException when no Content object or more than one matches the fragment.
+     */
+    protected void resolveItemNumber(ContentManager<T> contentManager) throws InvalidArgumentException {
+        if (nameFragment != null) {
+            itemNumber = contentManager.getContentNumber(nameFragment);
         }
-        return new CommandResult(result.toString());
     }
 }
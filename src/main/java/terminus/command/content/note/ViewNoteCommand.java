@@ -0,0 +1,123 @@
+package terminus.command.content.note;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import terminus.command.CommandResult;
+import terminus.command.content.ViewCommand;
+import terminus.common.CommonFormat;
+import terminus.common.Messages;
+import terminus.common.TerminusLogger;
+import terminus.content.ContentManager;
+import terminus.content.Note;
+import terminus.exception.InvalidArgumentException;
+import terminus.module.ModuleManager;
+
+/**
+ * ViewNoteCommand class which will manage the viewing of notes specified by user command.
+ * A range or a page of lines of a note can be viewed, and notes too large to be shown at once only show their first
+ * page.
+ */
+public class ViewNoteCommand extends ViewCommand<Note> {
+
+    private static final Pattern LINE_RANGE_ARGUMENTS = Pattern.compile("(\"[^\"]+\"|\\S+)\\s+(\\d+)-(\\d+)");
+    private static final Pattern PAGE_ARGUMENTS = Pattern.compile("(\"[^\"]+\"|\\S+)\\s+page\\s+(\\d+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private int firstLine;
+    private int lastLine;
+
+    /**
+     * Determines whether only the given range of lines of the note is printed.
+     */
+    private boolean hasLineRange;
+
+    public ViewNoteCommand() {
+        super(Note.class);
+    }
+
+    @Override
+    public String getFormat() {
+        return CommonFormat.COMMAND_VIEW_NOTE_FORMAT;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return Messages.MESSAGE_COMMAND_VIEW_NOTE;
+    }
+
+    /**
+     * Parses the arguments to the ViewNoteCommand object. The arguments can be followed by a range of lines or a page
+     * number, which refers to viewing only those lines of the note. Each page has
+     * {@link CommonFormat#NOTE_PAGE_LINE_COUNT} lines. The note can also be given by a fragment of its name in quotes.
+     *
+     * @param arguments The string arguments to be parsed in to the respective fields.
+     * @throws InvalidArgumentException when the index or the line range provided is invalid.
+     */
+    @Override
+    public void parseArguments(String arguments) throws InvalidArgumentException {
+        hasLineRange = false;
+        String strippedArguments = arguments == null ? "" : arguments.strip();
+        Matcher rangeMatcher = LINE_RANGE_ARGUMENTS.matcher(strippedArguments);
+        Matcher pageMatcher = PAGE_ARGUMENTS.matcher(strippedArguments);
+        try {
+            if (rangeMatcher.matches()) {
+                super.parseArguments(rangeMatcher.group(1));
+                firstLine = Integer.parseInt(rangeMatcher.group(2));
+                lastLine = Integer.parseInt(rangeMatcher.group(3));
+            } else if (pageMatcher.matches()) {
+                super.parseArguments(pageMatcher.group(1));
+                int page = Integer.parseInt(pageMatcher.group(2));
+                firstLine = (int) Math.min(Integer.MAX_VALUE, (page - 1L) * CommonFormat.NOTE_PAGE_LINE_COUNT + 1);
+                lastLine = (int) Math.min(Integer.MAX_VALUE, (long) page * CommonFormat.NOTE_PAGE_LINE_COUNT);
+            } else {
+                super.parseArguments(arguments);
+                return;
+            }
+        } catch (NumberFormatException e) {
+            TerminusLogger.warning(String.format("Failed to parse line range : %s", arguments));
+            throw new InvalidArgumentException(this.getFormat(), Messages.ERROR_MESSAGE_INVALID_NUMBER);
+        }
+        if (firstLine <= 0 || lastLine < firstLine) {
+            TerminusLogger.warning(String.format("Invalid line range : %d-%d", firstLine, lastLine));
+            throw new InvalidArgumentException(this.getFormat(), Messages.ERROR_MESSAGE_INVALID_NUMBER);
+        }
+        hasLineRange = true;
+    }
+
+    /**
+     * Executes the view command. Prints the relevant response to the Ui.
+     *
+     * @param moduleManager The NusModule contain the ContentManager of all notes and schedules.
+     * @return CommandResult to indicate the success and additional information about the execution.
+     * @throws InvalidArgumentException when the index or the line range is out of bounds of the note.
+     */
+    @Override
+    public CommandResult execute(ModuleManager moduleManager) throws InvalidArgumentException {
+        if (displayAll) {
+            return super.execute(moduleManager);
+        }
+        assert getModuleName() != null;
+        ContentManager<Note> contentManager = moduleManager.getModule(getModuleName()).getContentManager(Note.class);
+        resolveItemNumber(contentManager);
+        if (itemNumber > contentManager.getTotalContents()) {
+            throw new InvalidArgumentException(Messages.ERROR_MESSAGE_INVALID_NUMBER);
+        }
+        Note note = contentManager.getContents().get(itemNumber - 1);
+        if (!hasLineRange && !note.isLarge()) {
+            return super.execute(moduleManager);
+        }
+        int lineCount = note.getLineCount();
+        int first = hasLineRange ? firstLine : 1;
+        int last = Math.min(hasLineRange ? lastLine : CommonFormat.NOTE_PAGE_LINE_COUNT, lineCount);
+        if (first > lineCount) {
+            throw new InvalidArgumentException(String.format(Messages.ERROR_MESSAGE_INVALID_LINE_RANGE, lineCount));
+        }
+        TerminusLogger.info(String.format("Viewing lines %d-%d of note %s", first, last, note.getName()));
+        String result = String.format(Messages.MESSAGE_RESPONSE_NOTE_LINES, note.getName(), first, last, lineCount,
+                note.getLines(first, last));
+        if (!hasLineRange) {
+            result += String.format(Messages.MESSAGE_RESPONSE_LARGE_NOTE, itemNumber, itemNumber);
+        }
+        return new CommandResult(result);
+    }
+}
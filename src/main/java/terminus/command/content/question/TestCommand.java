@@ -1,6 +1,6 @@
 package terminus.command.content.question;
 
-import java.util.ArrayList;
+import java.util.List;
 import terminus.activerecall.GameEnvironment;
 import terminus.command.Command;
 import terminus.command.CommandResult;
@@ -55,12 +55,17 @@ public class TestCommand extends Command {
         assert questionCount > 0;
         NusModule module = moduleManager.getModule(getModuleName());
         ContentManager<Question> contentManager = module.getContentManager(Question.class);
-        ArrayList<Question> questions = contentManager.getContents();
+        List<Question> questions = contentManager.getContents();
         if (questions.isEmpty()) {
             throw new InvalidCommandException(Messages.ERROR_MESSAGE_NO_QUESTIONS);
         }
 
-        GameEnvironment.createNewEnvironment(questions, questionCount).run(); 
+        try {
+            GameEnvironment.createNewEnvironment(questions, questionCount).run();
+        } finally {
+            // Question weights are updated in place during the session.
+            contentManager.setModified(true);
+        }
         
         return new CommandResult();
     }
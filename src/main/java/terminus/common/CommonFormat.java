@@ -28,14 +28,20 @@ public class CommonFormat {
     public static final String COMMAND_EXPORT = "export";
     public static final String COMMAND_UPDATE = "update";
     public static final String COMMAND_RELOAD = "reload";
+    public static final String COMMAND_SEARCH = "search";
+    public static final String COMMAND_FIND = "find";
+    public static final String COMMAND_STATS = "stats";
 
     public static final String LOCAL_TIME_FORMAT = "HH:mm";
 
     /*
      * Command Formats 
      */
-    public static final String COMMAND_DELETE_FORMAT = COMMAND_DELETE + " <index>";
-    public static final String COMMAND_VIEW_FORMAT = COMMAND_VIEW + " {index}";
+    public static final String COMMAND_DELETE_FORMAT = COMMAND_DELETE + " <index | \"<name>\">";
+    public static final String COMMAND_VIEW_FORMAT = COMMAND_VIEW + " {index | \"<name>\" | --page <page_number>}";
+    public static final String COMMAND_VIEW_NOTE_FORMAT = COMMAND_VIEW
+            + " {index | \"<name>\"} {<first_line>-<last_line> | page <page_number>} | "
+            + COMMAND_VIEW + " --page <page_number>";
     public static final String COMMAND_ADD_SCHEDULE_FORMAT = COMMAND_ADD + " \"<link_description>\" "
             + "\"<day>\" \"<start_time>\" \"<duration>\" \"<zoom_link>\"";
     public static final String COMMAND_ADD_NOTE_FORMAT = COMMAND_ADD + " \"<note_name>\" \"<note_content>\"";
@@ -48,6 +54,9 @@ public class CommonFormat {
     public static final String COMMAND_MODULE_FORMAT = COMMAND_MODULE;
     public static final String COMMAND_VIEW_MODULE_FORMAT = COMMAND_VIEW;
     public static final String COMMAND_GO_FORMAT = "go <module_code>";
+    public static final String COMMAND_SEARCH_FORMAT = COMMAND_SEARCH + " <keywords>";
+    public static final String COMMAND_FIND_FORMAT = COMMAND_FIND + " <text>";
+    public static final String COMMAND_STATS_FORMAT = COMMAND_STATS;
 
     public static final String SPACE_DELIMITER = "\\s+";
     public static final String SPACE_NEGATED_DELIMITER = "\\S+";
@@ -64,6 +73,16 @@ public class CommonFormat {
     public static final int STARTING_ASCII = 32;
     public static final int ENDING_ASCII = 126;
     public static final long MAX_FILE_SIZE = 1000000;
+    public static final int NOTE_PAGE_LINE_COUNT = 50;
+    public static final int MAX_SEARCH_RESULTS = 10;
+    public static final int MAX_NAME_MATCHES = 5;
+    public static final int MAX_FIND_RESULTS = 50;
+    public static final int CONTENT_PAGE_SIZE = 50;
+    public static final String CONTENT_PAGE_REGEX_FORMAT = "--page\\s+(?<page>\\S+)";
+    public static final int MAX_CACHED_RENDERINGS = 64;
+    public static final String CACHE_DAY = "day";
+    public static final String CACHE_WEEK = "week";
+    public static final String NAME_FRAGMENT_REGEX_FORMAT = "\"(?<fragment>[^\"]+)\"";
     
     /*
      * PDF settings
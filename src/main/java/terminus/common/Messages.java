@@ -9,6 +9,8 @@ public class Messages {
     public static final String MESSAGE_COMMAND_ADD = "Add an item into your list.";
     public static final String MESSAGE_COMMAND_DELETE = "Delete an item from your list.";
     public static final String MESSAGE_COMMAND_VIEW = "View all items or view an individual items";
+    public static final String MESSAGE_COMMAND_VIEW_NOTE = "View all notes, an individual note or a page of lines "
+        + "in a note";
     public static final String MESSAGE_COMMAND_BACK = "Returns to the parent workspace.";
     public static final String MESSAGE_COMMAND_EXIT = "Exits the program.";
     public static final String MESSAGE_COMMAND_HELP = "Prints the help page.";
@@ -24,10 +26,15 @@ public class Messages {
     public static final String MESSAGE_COMMAND_EXPORT = "Export all existing notes into a pdf file.";
     public static final String MESSAGE_COMMAND_UPDATE_MODULE = "Updates the module name";
     public static final String MESSAGE_COMMAND_RELOAD = "Reload the contents of notes for this module.";
+    public static final String MESSAGE_COMMAND_SEARCH = "Search the notes and questions of all modules.";
+    public static final String MESSAGE_COMMAND_FIND = "Find text in all notes, schedules and questions.";
+    public static final String MESSAGE_COMMAND_STATS = "Show how often formatted lists are reused.";
 
     public static final String CONTENT_MESSAGE_HEADER = "List of Content\n---------------\n";
     public static final String CONTENT_MESSAGE_FOOTER =
             "\nRerun the same command with an index behind to view the content.";
+    public static final String MESSAGE_RESPONSE_CONTENT_PAGE = "\nPage %d of %d. "
+        + "Type 'view --page <page_number>' to view other pages.\n";
     public static final String MESSAGE_RESPONSE_DELETE = "Your %s on '%s' has been deleted!";
     public static final String MESSAGE_RESPONSE_ADD = "Your %s on '%s' has been added!";
     public static final String MESSAGE_RESPONSE_MODULE_ADD = "Module %s has been added";
@@ -35,6 +42,18 @@ public class Messages {
     public static final String MESSAGE_RESPONSE_NO_MODULES = "You do not have any modules.";
     public static final String MESSAGE_RESPONSE_MODULE_DELETE = "Deleted module %s.";
     public static final String MESSAGE_RESPONSE_RELOAD_NOTE = "Your Notes for %s is being reloaded.";
+    public static final String MESSAGE_RESPONSE_NOTE_LINES = "Name: %s\nLines %d-%d of %d:\n%s\n";
+    public static final String MESSAGE_RESPONSE_LARGE_NOTE = "This note is too large to be shown at once. "
+        + "Type 'view %d page <page_number>' or 'view %d <first_line>-<last_line>' to view other lines.";
+    public static final String MESSAGE_RESPONSE_STATS = "Formatted lists reused:\n";
+    public static final String MESSAGE_RESPONSE_STATS_CACHE = "%s: %d hit(s), %d miss(es), %.1f%% hit rate\n";
+    public static final String MESSAGE_RESPONSE_SEARCH = "Search results for '%s':\n";
+    public static final String MESSAGE_RESPONSE_SEARCH_RESULT = "%d. [%s] %s %d: %s\n";
+    public static final String MESSAGE_RESPONSE_FIND = "Contents containing '%s':\n";
+    public static final String MESSAGE_RESPONSE_FIND_MORE = "...and %d more.\n";
+    public static final String MESSAGE_RESPONSE_FIND_EMPTY = "No notes, schedules or questions contain '%s'.";
+    public static final String MESSAGE_RESPONSE_MATCHING_NAME = "\n%d. %s";
+    public static final String MESSAGE_RESPONSE_SEARCH_EMPTY = "No notes or questions found for '%s'.";
 
     /*
      * Error Messages
@@ -48,6 +67,13 @@ public class Messages {
     public static final String ERROR_MESSAGE_EMPTY_CONTENTS = ERROR_MESSAGE_TAG + "Content not found.";
     public static final String ERROR_MESSAGE_INVALID_NUMBER = ERROR_MESSAGE_TAG + "Invalid numerical value provided "
         + "or content could not be found.";
+    public static final String ERROR_MESSAGE_NO_MATCHING_NAME = ERROR_MESSAGE_TAG + "Nothing is named like '%s'.";
+    public static final String ERROR_MESSAGE_AMBIGUOUS_NAME = ERROR_MESSAGE_TAG + "'%s' matches more than one name. "
+        + "Use the full name or the index instead:%s";
+    public static final String ERROR_MESSAGE_INVALID_PAGE = ERROR_MESSAGE_TAG + "Invalid page number provided. "
+        + "There are %d page(s) of content.";
+    public static final String ERROR_MESSAGE_INVALID_LINE_RANGE = ERROR_MESSAGE_TAG + "Invalid line range provided. "
+        + "The note has %d line(s).";
     public static final String ERROR_MESSAGE_INVALID_TIME_FORMAT = ERROR_MESSAGE_TAG + "Invalid time format %s.";
     public static final String ERROR_MESSAGE_INVALID_LINK = ERROR_MESSAGE_TAG + "Invalid link %s.";
     public static final String ERROR_MESSAGE_INVALID_DAY = ERROR_MESSAGE_TAG + "Invalid day %s.";
@@ -84,7 +110,6 @@ public class Messages {
     public static final String ERROR_MISSING_FOLDER = "Unable to find folder : %s";
     public static final String ERROR_MISSING_FILE = "Unable to find file : %s";
     public static final String ERROR_GET_FILES = "Unable to get files from folder : %s";
-    public static final String ERROR_GET_FILE_CONTENT = "Unable to get file content type : %s";
     public static final String ERROR_STORAGE_DISABLE_RESPONSE = "We have detect an issue with storage, we will be "
             + "disabling the storage temporary until the TermiNUS exit where we will attempt to save your data 1 last"
             + " time.";
@@ -92,6 +117,10 @@ public class Messages {
     public static final String ERROR_EXPORT_MISSING_NOTE = "There are no notes to export.";
     public static final String ERROR_INVALID_FILE_PATH = "Invalid file/folder path : %s";
     public static final String ERROR_JSON_FILTER = "Invalid main json file : contained invalid data";
+    public static final String ERROR_JOURNAL_COMPACT = "Unable to compact the journal file : %s";
+    public static final String ERROR_JOURNAL_CORRUPT = "The journal file has unreadable entries and is kept "
+            + "without being compacted : %s";
+    public static final String ERROR_BINARY_VERSION = "Unsupported data file version %d : %s";
 
     /*
      * Banners
@@ -48,7 +48,7 @@ public class Content {
      * @return A string containing all the attributes of the Content object.
      */
     public String getDisplayInfo() {
-        return String.format(DISPLAY_MESSAGE, name, data);
+        return String.format(DISPLAY_MESSAGE, name, getData());
     }
 
     /**
@@ -0,0 +1,10 @@
+package terminus.content;
+
+/**
+ * Types of list that the contents of a ContentManager are stored in.
+ * ARRAY is fastest to read, while TREE removes and inserts contents at any index in O(log n) time.
+ */
+public enum ContentListEnum {
+    ARRAY,
+    TREE
+}
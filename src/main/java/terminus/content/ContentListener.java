@@ -0,0 +1,23 @@
+package terminus.content;
+
+/**
+ * ContentListener interface to be notified when Content objects are added to or removed from a ContentManager.
+ *
+ * @param <T> Content object type.
+ */
+public interface ContentListener<T extends Content> {
+
+    /**
+     * Handles a Content object added to the ContentManager.
+     *
+     * @param content The Content object added.
+     */
+    void contentAdded(T content);
+
+    /**
+     * Handles a Content object removed from the ContentManager.
+     *
+     * @param content The Content object removed.
+     */
+    void contentRemoved(T content);
+}
@@ -1,8 +1,19 @@
 package terminus.content;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+import terminus.cache.RenderCache;
+import terminus.common.CommonFormat;
 import terminus.common.Messages;
 import terminus.exception.InvalidArgumentException;
+import terminus.search.TrigramIndex;
 
 /**
  * ContentManager class to manage any Content related object.
@@ -11,24 +22,126 @@ import terminus.exception.InvalidArgumentException;
  */
 public class ContentManager<T extends Content> {
 
-    private ArrayList<T> contents;
+    private List<T> contents;
+
+    /**
+     * Type of list the contents are stored in.
+     */
+    private final transient ContentListEnum listType;
+
+    /**
+     * First Content object with each name and the other Content objects with that name, keyed by the lower case
+     * name. Kept in sync with contents by all methods that change them, so the list returned by getContents should
+     * not be changed directly.
+     */
+    private transient HashMap<String, NameEntry<T>> nameIndex;
+
+    /**
+     * Order given to the next Content object added to a name with other Content objects in the name index.
+     */
+    private transient long nextOrder;
+
+    /**
+     * Trigram index of the names of the contents, or null until a content is first looked up by a name fragment.
+     * Once built, it is kept in sync with the contents like the name index.
+     */
+    private transient TrigramIndex<T> nameTrigrams;
+
+    /**
+     * Listeners notified of each Content object added or removed, or null if there are none.
+     */
+    private transient ArrayList<ContentListener<T>> listeners;
+
+    /**
+     * Determines if the contents have changed since they were last saved.
+     */
+    private transient boolean isModified;
+
+    /**
+     * Version of the contents, which is changed by every method that changes them, so that formatted lists of the
+     * contents can be reused until then.
+     */
+    private transient long version;
 
     /**
      * Creates a ContentManager object.
      * It will initialize a new ArrayList for its contents.
      */
     public ContentManager() {
-        contents = new ArrayList<>();
+        this(ContentListEnum.ARRAY);
     }
 
-    public void setContent(ArrayList<T> contents) {
-        this.contents = contents;
+    /**
+     * Creates a ContentManager object that stores its contents in the given type of list.
+     *
+     * @param listType The type of list the contents are stored in.
+     */
+    public ContentManager(ContentListEnum listType) {
+        this.listType = listType;
+        this.contents = createList(List.of());
+        this.nameIndex = new HashMap<>();
+        this.version = RenderCache.nextVersion();
+    }
+
+    /**
+     * Replaces the contents with the given ones. Their names are indexed when they are next looked up.
+     * An ArrayList is used as it is for array contents, and other lists are copied into a list of the right type.
+     *
+     * @param contents The new list of Content objects.
+     */
+    public void setContent(List<T> contents) {
+        List<T> oldContents = this.contents;
+        this.contents = createList(contents);
+        this.nameIndex = null;
+        this.nameTrigrams = null;
+        this.isModified = true;
+        this.version = RenderCache.nextVersion();
+        if (listeners != null) {
+            notifyReplaced(oldContents, this.contents);
+        }
     }
 
-    public ArrayList<T> getContents() {
+    public List<T> getContents() {
         return contents;
     }
 
+    /**
+     * Returns the version of the contents, which is higher after any change to them than all versions before.
+     *
+     * @return The version of the contents.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public ContentListEnum getListType() {
+        return listType;
+    }
+
+    /**
+     * Adds a listener notified of each Content object added or removed from then on.
+     *
+     * @param listener The listener to be added.
+     */
+    public void addListener(ContentListener<T> listener) {
+        assert listener != null;
+        if (listeners == null) {
+            listeners = new ArrayList<>();
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added before, so that it is no longer notified.
+     *
+     * @param listener The listener to be removed.
+     */
+    public void removeListener(ContentListener<T> listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
     /**
      * Returns the total size of the ArrayList of type Content.
      *
@@ -53,6 +166,43 @@ public class ContentManager<T extends Content> {
         return result.toString();
     }
 
+    /**
+     * Returns the number of pages of the list of Content objects, where each page has the given number of them.
+     *
+     * @param pageSize The number of Content objects on each page.
+     * @return The number of pages, which is 0 when there are no Content objects.
+     */
+    public int getPageCount(int pageSize) {
+        assert pageSize > 0;
+        return (contents.size() + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Writes the information of a page of Content objects to the given sink, one numbered row at a time, in the same
+     * format as {@link #listAllContents()}. The rows are never joined into a single string, so the sink can pass them
+     * on as they are written.
+     *
+     * @param sink The sink the rows are written to.
+     * @param pageNumber The 1-based number of the page.
+     * @param pageSize The number of Content objects on each page.
+     * @return The number of rows written, which is 0 when the page is out of range.
+     * @throws IOException when the sink fails to be written to.
+     */
+    public int writeContents(Appendable sink, int pageNumber, int pageSize) throws IOException {
+        assert pageSize > 0;
+        long start = (pageNumber - 1L) * pageSize;
+        if (pageNumber <= 0 || start >= contents.size()) {
+            return 0;
+        }
+        int end = (int) Math.min(contents.size(), start + pageSize);
+        int number = (int) start;
+        for (T content : contents.subList(number, end)) {
+            number++;
+            sink.append(Integer.toString(number)).append(". ").append(content.getViewDescription()).append('\n');
+        }
+        return end - (int) start;
+    }
+
     /**
      * Returns string of all information of a Content object.
      *
@@ -78,9 +228,64 @@ public class ContentManager<T extends Content> {
         if (isNotValidNumber(contentNumber)) {
             throw new InvalidArgumentException(Messages.ERROR_MESSAGE_INVALID_NUMBER);
         }
-        String deletedContentName = contents.get(contentNumber - 1).getName();
-        contents.remove(contentNumber - 1);
-        return deletedContentName;
+        HashMap<String, NameEntry<T>> index = getNameIndex();
+        T deletedContent = contents.remove(contentNumber - 1);
+        removeFromIndex(index, deletedContent);
+        if (nameTrigrams != null) {
+            nameTrigrams.remove(deletedContent);
+        }
+        notifyRemoved(deletedContent);
+        isModified = true;
+        version = RenderCache.nextVersion();
+        return deletedContent.getName();
+    }
+
+    /**
+     * Removes the given Content object from the ArrayList contents.
+     *
+     * @param content The Content object to be removed.
+     * @return True if the Content object was removed, false if it was not found.
+     */
+    public boolean remove(T content) {
+        HashMap<String, NameEntry<T>> index = getNameIndex();
+        int position = indexOf(content);
+        if (position < 0) {
+            return false;
+        }
+        contents.remove(position);
+        removeFromIndex(index, content);
+        if (nameTrigrams != null) {
+            nameTrigrams.remove(content);
+        }
+        notifyRemoved(content);
+        isModified = true;
+        version = RenderCache.nextVersion();
+        return true;
+    }
+
+    /**
+     * Replaces a Content object in the ArrayList contents with another one with the same name, at the same position.
+     *
+     * @param oldContent The Content object to be replaced.
+     * @param newContent The Content object to replace it with.
+     */
+    public void replace(T oldContent, T newContent) {
+        assert getNameKey(oldContent.getName()).equals(getNameKey(newContent.getName()));
+        NameEntry<T> entry = getNameIndex().get(getNameKey(oldContent.getName()));
+        int index = indexOf(oldContent);
+        if (index < 0) {
+            return;
+        }
+        contents.set(index, newContent);
+        entry.replace(oldContent, newContent);
+        if (nameTrigrams != null) {
+            nameTrigrams.remove(oldContent);
+            nameTrigrams.add(newContent.getName(), newContent);
+        }
+        notifyRemoved(oldContent);
+        notifyAdded(newContent);
+        isModified = true;
+        version = RenderCache.nextVersion();
     }
 
     /**
@@ -89,7 +294,15 @@ public class ContentManager<T extends Content> {
      * @param content The Content object to be added into the ArrayList contents.
      */
     public void add(T content) {
+        HashMap<String, NameEntry<T>> index = getNameIndex();
         contents.add(content);
+        addToIndex(index, content);
+        if (nameTrigrams != null) {
+            nameTrigrams.add(content.getName(), content);
+        }
+        notifyAdded(content);
+        isModified = true;
+        version = RenderCache.nextVersion();
     }
 
     private boolean isNotValidNumber(int number) {
@@ -100,7 +313,34 @@ public class ContentManager<T extends Content> {
      * Replaces the current ArrayList for a new empty ArrayList.
      */
     public void purgeData() {
-        this.contents = new ArrayList<>();
+        List<T> oldContents = this.contents;
+        this.contents = createList(List.of());
+        this.nameIndex = new HashMap<>();
+        this.nameTrigrams = null;
+        this.isModified = true;
+        this.version = RenderCache.nextVersion();
+        if (listeners != null) {
+            notifyReplaced(oldContents, this.contents);
+        }
+    }
+
+    /**
+     * Returns true if the contents have changed since they were last saved.
+     *
+     * @return True if there are unsaved changes, false otherwise.
+     */
+    public boolean isModified() {
+        return isModified;
+    }
+
+    /**
+     * Sets the modified status of the contents.
+     * Changes made to a Content object directly (e.g. question weights) are not detected and should be marked here.
+     *
+     * @param modified The value for the modified status. Either True or False.
+     */
+    public void setModified(boolean modified) {
+        isModified = modified;
     }
 
     /**
@@ -110,9 +350,228 @@ public class ContentManager<T extends Content> {
      * @return True if there is a similar name, false otherwise.
      */
     public boolean isDuplicateName(String name) {
-        if (contents.size() < 1) {
-            return false;
+        return getContent(name) != null;
+    }
+
+    /**
+     * Returns the Content object with the given name, ignoring case.
+     *
+     * @param name The name of the Content object.
+     * @return The first Content object with the name, or null if there is none.
+     */
+    public T getContent(String name) {
+        NameEntry<T> entry = getNameIndex().get(getNameKey(name));
+        return entry == null ? null : entry.first;
+    }
+
+    /**
+     * Returns the contents whose names contain the given fragment, ignoring case, with the best match first. If no
+     * name contains it, the contents with the most similar names are returned, so that typos are tolerated.
+     *
+     * @param fragment A fragment of the name of a Content object.
+     * @return The matching Content objects.
+     */
+    public List<T> findContents(String fragment) {
+        if (nameTrigrams == null) {
+            TrigramIndex<T> newTrigrams = new TrigramIndex<>();
+            for (T content : contents) {
+                newTrigrams.add(content.getName(), content);
+            }
+            nameTrigrams = newTrigrams;
+        }
+        return nameTrigrams.find(fragment);
+    }
+
+    /**
+     * Returns the 1-based number of the Content object identified by the given name fragment. The fragment must
+     * either be the full name of a Content object or match only one of them.
+     *
+     * @param fragment A fragment of the name of a Content object.
+     * @return The number of the matching Content object.
+     * @throws InvalidArgumentException when no Content object or more than one matches the fragment.
+     */
+    public int getContentNumber(String fragment) throws InvalidArgumentException {
+        List<T> matches = findContents(fragment);
+        if (matches.isEmpty()) {
+            throw new InvalidArgumentException(String.format(Messages.ERROR_MESSAGE_NO_MATCHING_NAME, fragment));
+        }
+        T bestMatch = matches.get(0);
+        if (matches.size() > 1 && !getNameKey(bestMatch.getName()).equals(getNameKey(fragment.strip()))) {
+            StringBuilder candidates = new StringBuilder();
+            for (int i = 0; i < Math.min(matches.size(), CommonFormat.MAX_NAME_MATCHES); i++) {
+                candidates.append(String.format(Messages.MESSAGE_RESPONSE_MATCHING_NAME,
+                        indexOf(matches.get(i)) + 1, matches.get(i).getName()));
+            }
+            throw new InvalidArgumentException(String.format(Messages.ERROR_MESSAGE_AMBIGUOUS_NAME, fragment,
+                    candidates));
+        }
+        return indexOf(bestMatch) + 1;
+    }
+
+    /**
+     * Returns the index of the given Content object in the contents. Contents in a tree are found from their position
+     * in it in O(log n) time, instead of comparing them with all contents before it.
+     *
+     * @param content The Content object to be found.
+     * @return The 0-based index of the Content object, or -1 if it is not in the contents.
+     */
+    public int indexOf(T content) {
+        if (contents instanceof IndexedTreeList) {
+            return ((IndexedTreeList<T>) contents).indexOfInstance(content);
+        }
+        return contents.indexOf(content);
+    }
+
+    /**
+     * Returns the name index, which is built from the contents if they were replaced or read without it.
+     */
+    private HashMap<String, NameEntry<T>> getNameIndex() {
+        if (nameIndex == null) {
+            HashMap<String, NameEntry<T>> newIndex = new HashMap<>();
+            if (contents == null) {
+                contents = createList(List.of());
+            }
+            for (T content : contents) {
+                addToIndex(newIndex, content);
+            }
+            nameIndex = newIndex;
+        }
+        return nameIndex;
+    }
+
+    private void addToIndex(HashMap<String, NameEntry<T>> index, T content) {
+        NameEntry<T> entry = index.get(getNameKey(content.getName()));
+        if (entry == null) {
+            index.put(getNameKey(content.getName()), new NameEntry<>(content));
+            return;
+        }
+        if (entry.duplicates == null) {
+            entry.duplicates = new TreeMap<>();
+            entry.orders = new IdentityHashMap<>();
+            entry.addDuplicate(entry.first, nextOrder++);
+        }
+        entry.addDuplicate(content, nextOrder++);
+    }
+
+    /**
+     * Removes the given Content object from the name index. If other Content objects have the same name, the index
+     * then refers to the first of them, which is found from the order they were added in without searching the
+     * contents.
+     */
+    private void removeFromIndex(HashMap<String, NameEntry<T>> index, T content) {
+        String key = getNameKey(content.getName());
+        NameEntry<T> entry = index.get(key);
+        if (entry == null) {
+            return;
+        }
+        if (entry.duplicates == null) {
+            if (entry.first == content) {
+                index.remove(key);
+            }
+            return;
+        }
+        Long order = entry.orders.remove(content);
+        if (order == null) {
+            return;
+        }
+        entry.duplicates.remove(order);
+        entry.first = entry.duplicates.firstEntry().getValue();
+        if (entry.duplicates.size() == 1) {
+            entry.duplicates = null;
+            entry.orders = null;
+        }
+    }
+
+    private void notifyAdded(T content) {
+        if (listeners == null) {
+            return;
+        }
+        for (ContentListener<T> listener : listeners) {
+            listener.contentAdded(content);
+        }
+    }
+
+    private void notifyRemoved(T content) {
+        if (listeners == null) {
+            return;
+        }
+        for (ContentListener<T> listener : listeners) {
+            listener.contentRemoved(content);
+        }
+    }
+
+    /**
+     * Notifies the listeners of the Content objects that are only in the old or only in the new contents, so that
+     * Content objects kept by a reload are not handled again.
+     */
+    private void notifyReplaced(List<T> oldContents, List<T> newContents) {
+        Set<T> newSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        newSet.addAll(newContents);
+        Set<T> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (oldContents != null) {
+            for (T content : oldContents) {
+                oldSet.add(content);
+                if (!newSet.contains(content)) {
+                    notifyRemoved(content);
+                }
+            }
+        }
+        for (T content : newContents) {
+            if (!oldSet.contains(content)) {
+                notifyAdded(content);
+            }
+        }
+    }
+
+    private List<T> createList(List<T> elements) {
+        if (listType == ContentListEnum.TREE) {
+            return elements instanceof IndexedTreeList ? elements : new IndexedTreeList<>(elements);
+        }
+        return elements instanceof ArrayList ? elements : new ArrayList<>(elements);
+    }
+
+    private static String getNameKey(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Content objects with the same name, ignoring case. Contents are only added at the end and replaced at the same
+     * position, so the order they were added in is also the order of their positions.
+     */
+    private static class NameEntry<T> {
+
+        private T first;
+
+        /**
+         * Content objects with the name by the order they were added in, or null if there is only one.
+         */
+        private TreeMap<Long, T> duplicates;
+
+        /**
+         * Order each Content object in duplicates was added in, or null if there is only one.
+         */
+        private IdentityHashMap<T, Long> orders;
+
+        private NameEntry(T first) {
+            this.first = first;
+        }
+
+        private void addDuplicate(T content, long order) {
+            duplicates.put(order, content);
+            orders.put(content, order);
+        }
+
+        private void replace(T oldContent, T newContent) {
+            if (first == oldContent) {
+                first = newContent;
+            }
+            if (orders == null) {
+                return;
+            }
+            Long order = orders.remove(oldContent);
+            if (order != null) {
+                addDuplicate(newContent, order);
+            }
         }
-        return contents.stream().anyMatch(x -> x.getName().toLowerCase().equals(name.toLowerCase()));
     }
 }
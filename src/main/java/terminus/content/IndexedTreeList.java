@@ -0,0 +1,375 @@
+package terminus.content;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IndexedTreeList class to represent a list stored in a balanced tree ordered by position, where each node records
+ * the size of its subtree. Getting, inserting and removing an element at any index takes O(log n) expected time,
+ * instead of shifting all elements after it as in an ArrayList.
+ * The tree is a treap, which is kept balanced by giving each node a random priority that is never lower than the
+ * priorities of its children.
+ * Each node also refers to its parent, so that the index of an element can be found from its node in O(log n) time.
+ *
+ * @param <E> Element type.
+ */
+public class IndexedTreeList<E> extends AbstractList<E> {
+
+    private Node<E> root;
+
+    /**
+     * Node of each element in the list, keyed by the element itself rather than by equality.
+     */
+    private final IdentityHashMap<E, Node<E>> nodes = new IdentityHashMap<>();
+
+    /**
+     * Determines if an element has been in the list more than once since it was last cleared, in which case
+     * {@link #nodes} may not refer to all of its nodes.
+     */
+    private boolean hasRepeatedElements;
+
+    /**
+     * Creates an empty IndexedTreeList object.
+     */
+    public IndexedTreeList() {
+    }
+
+    /**
+     * Creates an IndexedTreeList object containing the given elements in order, in O(n) time.
+     *
+     * @param elements The elements of the list.
+     */
+    public IndexedTreeList(Collection<? extends E> elements) {
+        // Builds the treap of the elements with random priorities by keeping the rightmost path on a stack
+        ArrayDeque<Node<E>> rightPath = new ArrayDeque<>();
+        for (E element : elements) {
+            Node<E> node = createNode(element);
+            Node<E> lastPopped = null;
+            while (!rightPath.isEmpty() && rightPath.peek().priority < node.priority) {
+                lastPopped = rightPath.pop();
+                update(lastPopped);
+            }
+            node.left = lastPopped;
+            if (!rightPath.isEmpty()) {
+                rightPath.peek().right = node;
+            }
+            rightPath.push(node);
+        }
+        while (!rightPath.isEmpty()) {
+            root = rightPath.pop();
+            update(root);
+        }
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return getNode(index).value;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Node<E> node = getNode(index);
+        E oldValue = node.value;
+        forgetNode(node);
+        node.value = element;
+        rememberNode(node);
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size()));
+        }
+        Parts<E> parts = split(root, index);
+        setRoot(merge(merge(parts.first, createNode(element)), parts.second));
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        Parts<E> parts = split(root, index);
+        Parts<E> rest = split(parts.second, 1);
+        setRoot(merge(parts.first, rest.second));
+        forgetNode(rest.first);
+        modCount++;
+        return rest.first.value;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        nodes.clear();
+        hasRepeatedElements = false;
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the given element instance in the list, comparing elements by identity rather than by
+     * equality. This takes O(log n) time unless an element has been in the list more than once.
+     *
+     * @param element The element to be found.
+     * @return The index of the element, or -1 if it is not in the list.
+     */
+    public int indexOfInstance(E element) {
+        if (hasRepeatedElements) {
+            for (int i = 0; i < size(); i++) {
+                if (get(i) == element) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            return -1;
+        }
+        int index = size(node.left);
+        while (node.parent != null) {
+            if (node.parent.right == node) {
+                index += size(node.parent.left) + 1;
+            }
+            node = node.parent;
+        }
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns an iterator that visits the elements in order in O(1) amortized time each.
+     *
+     * @return The iterator over the elements of the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeIterator();
+    }
+
+    private Node<E> getNode(int index) {
+        checkIndex(index);
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size()));
+        }
+    }
+
+    private Node<E> createNode(E element) {
+        Node<E> node = new Node<>(element);
+        rememberNode(node);
+        return node;
+    }
+
+    private void rememberNode(Node<E> node) {
+        if (nodes.putIfAbsent(node.value, node) != null) {
+            hasRepeatedElements = true;
+        }
+    }
+
+    private void forgetNode(Node<E> node) {
+        nodes.remove(node.value, node);
+    }
+
+    private void setRoot(Node<E> node) {
+        root = node;
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    /**
+     * Splits the given tree into a tree of its first count elements and a tree of the rest.
+     */
+    private Parts<E> split(Node<E> node, int count) {
+        if (node == null) {
+            return new Parts<>(null, null);
+        }
+        int leftSize = size(node.left);
+        Parts<E> parts;
+        if (count <= leftSize) {
+            Parts<E> leftParts = split(node.left, count);
+            node.left = leftParts.second;
+            parts = new Parts<>(leftParts.first, node);
+        } else {
+            Parts<E> rightParts = split(node.right, count - leftSize - 1);
+            node.right = rightParts.first;
+            parts = new Parts<>(node, rightParts.second);
+        }
+        update(node);
+        return parts;
+    }
+
+    /**
+     * Joins two trees, where all elements of the first tree come before those of the second.
+     */
+    private Node<E> merge(Node<E> first, Node<E> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority >= second.priority) {
+            first.right = merge(first.right, second);
+            update(first);
+            return first;
+        }
+        second.left = merge(first, second.left);
+        update(second);
+        return second;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Recomputes the size of the given node and sets it as the parent of its children, after they were changed.
+     */
+    private static <E> void update(Node<E> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+    }
+
+    private static class Node<E> {
+
+        private E value;
+        private final int priority;
+        private int size;
+        private Node<E> left;
+        private Node<E> right;
+        private Node<E> parent;
+
+        private Node(E value) {
+            this.value = value;
+            this.priority = ThreadLocalRandom.current().nextInt();
+            this.size = 1;
+        }
+    }
+
+    /**
+     * The two trees a tree is split into.
+     */
+    private static class Parts<E> {
+
+        private final Node<E> first;
+        private final Node<E> second;
+
+        private Parts(Node<E> first, Node<E> second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    /**
+     * Iterator over the tree in order, which keeps the path to the next node on a stack.
+     */
+    private class TreeIterator implements Iterator<E> {
+
+        private final ArrayDeque<Node<E>> path;
+        private int nextIndex;
+        private int lastIndex;
+        private int expectedModCount;
+
+        private TreeIterator() {
+            this.path = new ArrayDeque<>();
+            this.lastIndex = -1;
+            this.expectedModCount = modCount;
+            seek(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size();
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftPath(node.right);
+            lastIndex = nextIndex++;
+            return node.value;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            IndexedTreeList.this.remove(lastIndex);
+            expectedModCount = modCount;
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            seek(nextIndex);
+        }
+
+        /**
+         * Rebuilds the path to the node at the given index, after the tree was restructured.
+         */
+        private void seek(int index) {
+            path.clear();
+            Node<E> node = root;
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (index < leftSize) {
+                    path.push(node);
+                    node = node.left;
+                } else if (index == leftSize) {
+                    path.push(node);
+                    return;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        private void pushLeftPath(Node<E> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
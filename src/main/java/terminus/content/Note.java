@@ -1,10 +1,201 @@
 package terminus.content;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
 public class Note extends Content {
 
     public static final String TYPE = "N";
 
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * Hash of the data when it was last read from or written to its file, or null if it was never saved.
+     */
+    private transient byte[] savedHash;
+
+    /**
+     * Full path of the file the data is read from when it is used, or null if the data is held in memory.
+     */
+    private transient Path filePath;
+    private transient NoteDataLoader loader;
+
+    /**
+     * Offsets of the first character of each line of the indexed data, followed by the offset after its last line.
+     * The index is built once when lines of the data are first used, and built again when the data changes.
+     */
+    private transient int[] lineOffsets;
+    private transient int lineCount;
+    private transient String indexedData;
+
     public Note(String name, String data) {
         super(name, data);
     }
+
+    /**
+     * Creates a Note object whose data stays in its file, and is only read by the given loader when it is used.
+     *
+     * @param name The name of the note.
+     * @param filePath The full path of the note file.
+     * @param loader The loader that reads the data of the note file.
+     */
+    public Note(String name, Path filePath, NoteDataLoader loader) {
+        super(name);
+        this.filePath = filePath;
+        this.loader = loader;
+    }
+
+    @Override
+    public String getData() {
+        if (loader != null) {
+            return loader.load(filePath);
+        }
+        return data;
+    }
+
+    /**
+     * Sets the data of the note, which is held in memory from then on.
+     *
+     * @param data The new data of the note.
+     */
+    @Override
+    public void setData(String data) {
+        super.setData(data);
+        this.filePath = null;
+        this.loader = null;
+        this.indexedData = null;
+        this.lineOffsets = null;
+    }
+
+    /**
+     * Returns the full path of the file the data is read from.
+     *
+     * @return The full path of the note file, or null if the data is held in memory.
+     */
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Sets the full path of the file the data is read from, after the file was moved.
+     *
+     * @param filePath The new full path of the note file.
+     */
+    public void setFilePath(Path filePath) {
+        if (loader != null) {
+            this.filePath = filePath;
+        }
+    }
+
+    /**
+     * Returns true if the note is backed by a file too large to be displayed as a whole.
+     *
+     * @return True if the note should be displayed by ranges of lines, false otherwise.
+     */
+    public boolean isLarge() {
+        return loader != null && loader.isLarge(filePath);
+    }
+
+    /**
+     * Returns the number of lines of the note. A new line at the end of the data does not start another line.
+     *
+     * @return The number of lines.
+     */
+    public int getLineCount() {
+        if (isLarge()) {
+            return loader.getLineCount(filePath);
+        }
+        indexLines(getData());
+        return lineCount;
+    }
+
+    /**
+     * Returns the given range of lines of the note. The range is found through the line index of the data, and large
+     * notes only read the requested lines from their file.
+     *
+     * @param firstLine The number of the first line, starting from 1.
+     * @param lastLine The number of the last line, which is at most the number of lines.
+     * @return The lines joined by new lines.
+     */
+    public String getLines(int firstLine, int lastLine) {
+        assert firstLine >= 1 && firstLine <= lastLine;
+        if (isLarge()) {
+            return loader.loadLines(filePath, firstLine, lastLine);
+        }
+        String currentData = getData();
+        indexLines(currentData);
+        assert lastLine <= lineCount;
+        String lines = currentData.substring(lineOffsets[firstLine - 1], lineOffsets[lastLine] - 1);
+        if (lines.endsWith("\r")) {
+            lines = lines.substring(0, lines.length() - 1);
+        }
+        return lines.replace("\r\n", "\n");
+    }
+
+    /**
+     * Returns true if the data has changed since it was last read from or written to its file.
+     *
+     * @return True if the note file has to be written, false otherwise.
+     */
+    public boolean isModified() {
+        if (loader != null) {
+            // Data that stays in its file is unchanged
+            return false;
+        }
+        return savedHash == null || !Arrays.equals(savedHash, getHash(data));
+    }
+
+    /**
+     * Marks the current data as the content of its file.
+     */
+    public void clearModified() {
+        savedHash = getHash(getData());
+    }
+
+    /**
+     * Builds the line index of the given data, unless it is the data that is already indexed.
+     * Data read from a file is the same string object for as long as it stays cached, so it is indexed only once.
+     *
+     * @param currentData The current data of the note.
+     */
+    private void indexLines(String currentData) {
+        if (lineOffsets != null && currentData == indexedData) {
+            return;
+        }
+        String lines = currentData == null ? "" : currentData;
+        int newLineCount = 0;
+        for (int i = 0; i < lines.length(); i++) {
+            if (lines.charAt(i) == '\n') {
+                newLineCount++;
+            }
+        }
+        int[] offsets = new int[newLineCount + 2];
+        int offsetCount = 1;
+        for (int i = 0; i < lines.length(); i++) {
+            if (lines.charAt(i) == '\n') {
+                offsets[offsetCount++] = i + 1;
+            }
+        }
+        // Treat the end of the data as a new line, so that every line ends one character before the next offset
+        offsets[offsetCount] = lines.length() + 1;
+        boolean hasLastLine = !lines.isEmpty() && !lines.endsWith("\n");
+        this.lineCount = newLineCount + (hasLastLine ? 1 : 0);
+        this.lineOffsets = offsets;
+        this.indexedData = currentData;
+    }
+
+    private static byte[] getHash(String data) {
+        if (data == null) {
+            return new byte[0];
+        }
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(data.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new AssertionError(e);
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package terminus.content;
+
+import java.nio.file.Path;
+
+/**
+ * NoteDataLoader interface to read the data of a Note from its file when it is used.
+ */
+public interface NoteDataLoader {
+
+    /**
+     * Returns the data stored in the given note file.
+     *
+     * @param filePath The full path of the note file.
+     * @return The data of the note.
+     */
+    String load(Path filePath);
+
+    /**
+     * Returns true if the given note file is too large to be read into memory as a whole for display.
+     *
+     * @param filePath The full path of the note file.
+     * @return True if only ranges of lines of the note should be read, false otherwise.
+     */
+    boolean isLarge(Path filePath);
+
+    /**
+     * Returns the number of lines in the given note file.
+     *
+     * @param filePath The full path of the note file.
+     * @return The number of lines of the note.
+     */
+    int getLineCount(Path filePath);
+
+    /**
+     * Returns the given range of lines stored in the given note file.
+     *
+     * @param filePath The full path of the note file.
+     * @param firstLine The number of the first line, starting from 1.
+     * @param lastLine The number of the last line, which is at most the number of lines in the file.
+     * @return The lines of the note joined by new lines.
+     */
+    String loadLines(Path filePath, int firstLine, int lastLine);
+}
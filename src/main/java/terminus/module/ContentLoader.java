@@ -0,0 +1,38 @@
+package terminus.module;
+
+import java.util.List;
+import terminus.content.Content;
+import terminus.content.ContentManager;
+import terminus.content.Link;
+
+/**
+ * ContentLoader interface to fill in the contents of a NusModule from storage when they are first used.
+ */
+public interface ContentLoader {
+
+    /**
+     * Loads the contents of the given class type into the given ContentManager.
+     *
+     * @param type Content class type.
+     * @param contentManager The ContentManager to load the contents into.
+     * @param <T> Content object type.
+     */
+    <T extends Content> void load(Class<T> type, ContentManager<T> contentManager);
+
+    /**
+     * Returns the links saved for listing the schedule of the module without loading it.
+     *
+     * @return The saved links, or null if there are none and the links have to be loaded.
+     */
+    default List<Link> getSchedule() {
+        return null;
+    }
+
+    /**
+     * Sets the name of the module that contents are loaded for, after the module is renamed.
+     *
+     * @param moduleName The new name of the module.
+     */
+    default void rename(String moduleName) {
+    }
+}
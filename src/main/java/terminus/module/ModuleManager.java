@@ -1,13 +1,71 @@
 package terminus.module;
 
 import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import terminus.cache.RenderCache;
+import terminus.common.CommonFormat;
+import terminus.content.Link;
+import terminus.search.SearchIndex;
+import terminus.search.TrigramIndex;
 
 public class ModuleManager {
 
     private HashMap<String, NusModule> moduleMap;
 
+    /**
+     * Names of the modules that were added or renamed since the last save.
+     */
+    private transient HashSet<String> addedModules;
+
+    /**
+     * Names of the modules that were removed or renamed since the last save.
+     */
+    private transient HashSet<String> removedModules;
+
+    /**
+     * Full-text index of the notes and questions of all modules, or null if it has not been built yet.
+     */
+    private transient SearchIndex searchIndex;
+
+    /**
+     * Trigram index of the module names, or null until a module is first looked up by a name fragment.
+     */
+    private transient TrigramIndex<NusModule> moduleTrigrams;
+
+    /**
+     * Version of the set of modules, which is changed whenever a module is set or removed.
+     */
+    private transient long moduleVersion;
+
+    /**
+     * Formatted schedules of all modules, keyed by the lower case day.
+     */
+    private transient RenderCache<String> dayCache;
+
+    /**
+     * Formatted schedule of all modules for the week, which is stored under a single key.
+     */
+    private transient RenderCache<String> weekCache;
+
     public ModuleManager() {
         moduleMap = new HashMap<>();
+        addedModules = new HashSet<>();
+        removedModules = new HashSet<>();
+    }
+
+    /**
+     * Creates a ModuleManager containing the given modules under the names they were stored with.
+     * The names are not converted, so that invalid names can still be filtered out.
+     *
+     * @param modules The NusModule objects keyed by module name.
+     */
+    public ModuleManager(Map<String, NusModule> modules) {
+        this();
+        moduleMap.putAll(modules);
     }
 
     /**
@@ -26,17 +84,35 @@ public class ModuleManager {
      * @param moduleName The module name of the new module
      */
     public void addModule(String moduleName) {
-        moduleMap.put(moduleName.toUpperCase(), new NusModule());
+        setModule(moduleName, new NusModule());
     }
 
     /**
      * Adds a module and also set the specific NusModule.
+     * Any contents of the NusModule that are not loaded yet are loaded for the given name afterwards.
      *
      * @param moduleName The module name of the new module
      * @param module The NusModule object to set
      */
     public void setModule(String moduleName, NusModule module) {
-        moduleMap.put(moduleName.toUpperCase(), module);
+        String key = moduleName.toUpperCase();
+        module.rename(key);
+        NusModule replacedModule = moduleMap.put(key, module);
+        if (searchIndex != null) {
+            if (replacedModule != null) {
+                searchIndex.removeModule(replacedModule);
+            }
+            searchIndex.addModule(module);
+        }
+        if (moduleTrigrams != null) {
+            if (replacedModule != null) {
+                moduleTrigrams.remove(replacedModule);
+            }
+            moduleTrigrams.add(key, module);
+        }
+        addedModules.add(key);
+        removedModules.remove(key);
+        moduleVersion = RenderCache.nextVersion();
     }
 
     /**
@@ -48,14 +124,186 @@ public class ModuleManager {
         return moduleMap.keySet().toArray(new String[0]);
     }
 
+    /**
+     * Returns the name the given module is stored under.
+     *
+     * @param module The NusModule object.
+     * @return The module name, or null if the module is not in this ModuleManager.
+     */
+    public String getModuleName(NusModule module) {
+        for (Map.Entry<String, NusModule> entry : moduleMap.entrySet()) {
+            if (entry.getValue() == module) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the names of the modules containing the given fragment, ignoring case, with the best match first. If no
+     * name contains it, the most similar names are returned, so that typos are tolerated.
+     *
+     * @param fragment A fragment of the module name.
+     * @return The matching module names.
+     */
+    public List<String> findModules(String fragment) {
+        if (moduleTrigrams == null) {
+            TrigramIndex<NusModule> newTrigrams = new TrigramIndex<>();
+            for (Map.Entry<String, NusModule> entry : moduleMap.entrySet()) {
+                newTrigrams.add(entry.getKey(), entry.getValue());
+            }
+            moduleTrigrams = newTrigrams;
+        }
+        List<String> moduleNames = new ArrayList<>();
+        for (NusModule module : moduleTrigrams.find(fragment)) {
+            moduleNames.add(getModuleName(module));
+        }
+        return moduleNames;
+    }
+
+    /**
+     * Returns the full-text index of the notes and questions of all modules. The index is built when it is first
+     * used, which loads the contents of all modules, and is kept up to date afterwards.
+     *
+     * @return The search index of all modules.
+     */
+    public SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex();
+            for (NusModule module : moduleMap.values()) {
+                searchIndex.addModule(module);
+            }
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the version of the schedules of all modules. It is higher after any module is set or removed, or any
+     * schedule is changed, than all versions before, as every change takes a version higher than all others.
+     * Modules whose schedules are not loaded yet are skipped without loading them, as their schedules cannot have
+     * changed, and loading them takes a higher version.
+     *
+     * @return The version of the schedules.
+     */
+    public long getScheduleVersion() {
+        long scheduleVersion = moduleVersion;
+        for (NusModule module : moduleMap.values()) {
+            if (module.isLoaded(Link.class)) {
+                scheduleVersion = Math.max(scheduleVersion, module.getContentManager(Link.class).getVersion());
+            }
+        }
+        return scheduleVersion;
+    }
+
+    /**
+     * Returns the cache of formatted schedules of a day.
+     *
+     * @return The cache of daily schedules.
+     */
+    public RenderCache<String> getDayCache() {
+        if (dayCache == null) {
+            dayCache = new RenderCache<>(CommonFormat.CACHE_DAY, CommonFormat.MAX_CACHED_RENDERINGS);
+        }
+        return dayCache;
+    }
+
+    /**
+     * Returns the cache of formatted schedules of the week.
+     *
+     * @return The cache of weekly schedules.
+     */
+    public RenderCache<String> getWeekCache() {
+        if (weekCache == null) {
+            weekCache = new RenderCache<>(CommonFormat.CACHE_WEEK, 1);
+        }
+        return weekCache;
+    }
+
+    /**
+     * Returns the caches of formatted lists.
+     *
+     * @return The day and week caches.
+     */
+    public List<RenderCache<?>> getRenderCaches() {
+        return List.of(getDayCache(), getWeekCache());
+    }
+
     /**
      * Deletes the specified module.
      *
      * @param moduleName The module name of the module to remove
      */
     public void removeModule(String moduleName) {
-        if (moduleMap.remove(moduleName.toUpperCase()) == null) {
-            moduleMap.remove(moduleName);
+        String key = moduleName.toUpperCase();
+        NusModule removedModule = moduleMap.remove(key);
+        if (removedModule == null) {
+            key = moduleName;
+            removedModule = moduleMap.remove(key);
+            if (removedModule == null) {
+                return;
+            }
+        }
+        if (searchIndex != null) {
+            searchIndex.removeModule(removedModule);
+        }
+        if (moduleTrigrams != null) {
+            moduleTrigrams.remove(removedModule);
+        }
+        addedModules.remove(key);
+        removedModules.add(key);
+        moduleVersion = RenderCache.nextVersion();
+    }
+
+    /**
+     * Returns the names of all modules that were added or have changed contents since the last save.
+     *
+     * @return A set containing the names of the modified modules.
+     */
+    public Set<String> getModifiedModules() {
+        HashSet<String> modifiedModules = new HashSet<>(addedModules);
+        for (String moduleName : moduleMap.keySet()) {
+            if (moduleMap.get(moduleName).isModified()) {
+                modifiedModules.add(moduleName);
+            }
+        }
+        return modifiedModules;
+    }
+
+    /**
+     * Returns the names of all modules that were added or renamed since the last save.
+     *
+     * @return A set containing the names of the added modules.
+     */
+    public Set<String> getAddedModules() {
+        return new HashSet<>(addedModules);
+    }
+
+    /**
+     * Returns the names of all modules that were removed since the last save.
+     *
+     * @return A set containing the names of the removed modules.
+     */
+    public Set<String> getRemovedModules() {
+        return new HashSet<>(removedModules);
+    }
+
+    /**
+     * Returns true if any module was added, removed or changed since the last save.
+     *
+     * @return True if there are unsaved changes, false otherwise.
+     */
+    public boolean isModified() {
+        return !removedModules.isEmpty() || !getModifiedModules().isEmpty();
+    }
+
+    /**
+     * Marks all modules as saved.
+     */
+    public void clearModified() {
+        addedModules.clear();
+        removedModules.clear();
+        for (NusModule module : moduleMap.values()) {
+            module.setModified(false);
         }
     }
 }
@@ -1,7 +1,11 @@
 package terminus.module;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import terminus.common.TerminusLogger;
 import terminus.content.Content;
+import terminus.content.ContentListEnum;
 import terminus.content.ContentManager;
 import terminus.content.Link;
 import terminus.content.Note;
@@ -12,17 +16,53 @@ import terminus.content.Question;
  */
 public class NusModule {
 
+    /**
+     * Type of list used to store each type of content in modules created afterwards. Contents not in the map are
+     * stored in an array.
+     */
+    private static final HashMap<Class<? extends Content>, ContentListEnum> contentListTypes = new HashMap<>();
+
     private final transient ContentManager<Note> noteManager;
     private final ContentManager<Link> linkManager;
     private final ContentManager<Question> questionManager;
 
+    /**
+     * Loads the contents of this module on first use, or null if all contents are already loaded.
+     */
+    private transient ContentLoader loader;
+
+    /**
+     * Content class types that have not been loaded by the loader yet.
+     */
+    private transient HashSet<Class<? extends Content>> unloadedTypes;
+
     /**
      * Creates a NusModule object.
      */
     public NusModule() {
-        noteManager = new ContentManager<>();
-        linkManager = new ContentManager<>();
-        questionManager = new ContentManager<>();
+        noteManager = new ContentManager<>(getContentListType(Note.class));
+        linkManager = new ContentManager<>(getContentListType(Link.class));
+        questionManager = new ContentManager<>(getContentListType(Question.class));
+    }
+
+    /**
+     * Sets the type of list used to store the given type of content in modules created afterwards.
+     *
+     * @param type Content class type.
+     * @param listType The type of list the contents are stored in.
+     */
+    public static void setContentListType(Class<? extends Content> type, ContentListEnum listType) {
+        contentListTypes.put(type, listType);
+    }
+
+    /**
+     * Returns the type of list used to store the given type of content.
+     *
+     * @param type Content class type.
+     * @return The type of list the contents are stored in.
+     */
+    public static ContentListEnum getContentListType(Class<? extends Content> type) {
+        return contentListTypes.getOrDefault(type, ContentListEnum.ARRAY);
     }
 
     /**
@@ -33,7 +73,37 @@ public class NusModule {
      * @return The ContentManager object based on the provided class type.
      */
     public <T extends Content> ContentManager<T> getContentManager(Class<T> type) {
-        TerminusLogger.info(String.format("Get ContentManager from NusModule with provided class type: %s", type));
+        // Contents of all modules are looked up by cross-module commands, so each lookup is only a debug message
+        TerminusLogger.debug(String.format("Get ContentManager from NusModule with provided class type: %s", type));
+        ContentManager<T> result = findContentManager(type);
+        if (result == null) {
+            return null;
+        }
+        TerminusLogger.debug("ContentManager found");
+        loadIfRequired(type, result);
+        return result;
+    }
+
+    /**
+     * Replaces the contents of the given class type without loading them, after which they count as loaded.
+     *
+     * @param type Content class type.
+     * @param contents The new contents.
+     * @param <T> Content object type.
+     */
+    public <T extends Content> void setContents(Class<T> type, List<T> contents) {
+        ContentManager<T> contentManager = findContentManager(type);
+        assert contentManager != null;
+        contentManager.setContent(contents);
+        if (loader != null) {
+            unloadedTypes.remove(type);
+            if (unloadedTypes.isEmpty()) {
+                loader = null;
+            }
+        }
+    }
+
+    private <T extends Content> ContentManager<T> findContentManager(Class<T> type) {
         ContentManager<T> result = null;
         if (type == Note.class) {
             result = (ContentManager<T>) this.noteManager;
@@ -47,7 +117,109 @@ public class NusModule {
             assert false;
             return null;
         }
-        TerminusLogger.info("ContentManager found");
         return result;
     }
+
+    /**
+     * Returns the links of this module for listing schedules. Links that are not loaded yet are taken from the
+     * schedule saved by the loader when there is one, so that schedules can be listed without loading this module.
+     *
+     * @return The links of this module.
+     */
+    public List<Link> getSchedule() {
+        if (!isLoaded(Link.class)) {
+            List<Link> schedule = loader.getSchedule();
+            if (schedule != null) {
+                return schedule;
+            }
+        }
+        return getContentManager(Link.class).getContents();
+    }
+
+    /**
+     * Sets the loader that fills in the contents of this module when each ContentManager is first used.
+     *
+     * @param loader The loader of the contents of this module.
+     */
+    public void setLoader(ContentLoader loader) {
+        this.loader = loader;
+        this.unloadedTypes = new HashSet<>();
+        unloadedTypes.add(Note.class);
+        unloadedTypes.add(Link.class);
+        unloadedTypes.add(Question.class);
+    }
+
+    /**
+     * Sets the name of this module that contents not loaded yet are loaded for, without loading them.
+     *
+     * @param moduleName The name the module is stored under.
+     */
+    public void rename(String moduleName) {
+        if (loader != null) {
+            loader.rename(moduleName);
+        }
+    }
+
+    /**
+     * Returns true if all contents of this module have been loaded.
+     *
+     * @return True if there is no content left to be loaded, false otherwise.
+     */
+    public boolean isLoaded() {
+        return loader == null;
+    }
+
+    /**
+     * Returns true if the contents of the given class type have been loaded.
+     *
+     * @param type Content class type.
+     * @return True if the contents of the given class type are loaded, false otherwise.
+     */
+    public boolean isLoaded(Class<? extends Content> type) {
+        return loader == null || !unloadedTypes.contains(type);
+    }
+
+    /**
+     * Loads all contents of this module that have not been loaded yet.
+     */
+    public void load() {
+        getContentManager(Note.class);
+        getContentManager(Link.class);
+        getContentManager(Question.class);
+    }
+
+    private <T extends Content> void loadIfRequired(Class<T> type, ContentManager<T> contentManager) {
+        if (isLoaded(type)) {
+            return;
+        }
+        unloadedTypes.remove(type);
+        ContentLoader currentLoader = loader;
+        if (unloadedTypes.isEmpty()) {
+            loader = null;
+        }
+        // Loaded contents are already saved, so they do not count as changes
+        boolean isModified = contentManager.isModified();
+        currentLoader.load(type, contentManager);
+        contentManager.setModified(isModified);
+    }
+
+    /**
+     * Returns true if the links or questions in this module have changed since they were last saved.
+     * Notes are stored in their own files and are not considered, and contents not loaded yet are unchanged.
+     *
+     * @return True if there are unsaved changes, false otherwise.
+     */
+    public boolean isModified() {
+        return linkManager.isModified() || questionManager.isModified();
+    }
+
+    /**
+     * Sets the modified status of the links and questions in this module.
+     *
+     * @param modified The value for the modified status. Either True or False.
+     */
+    public void setModified(boolean modified) {
+        linkManager.setModified(modified);
+        questionManager.setModified(modified);
+    }
 }
@@ -2,7 +2,10 @@ package terminus.parser;
 
 import static terminus.common.CommonUtils.getCurrentDay;
 
+import terminus.command.FindCommand;
 import terminus.command.GoCommand;
+import terminus.command.SearchCommand;
+import terminus.command.StatsCommand;
 import terminus.command.TimetableCommand;
 import terminus.command.module.ModuleCommand;
 import terminus.common.CommonFormat;
@@ -24,6 +27,9 @@ public class MainCommandParser extends CommandParser {
             parser.addCommand(CommonFormat.COMMAND_MODULE, new ModuleCommand());
             parser.addCommand(CommonFormat.COMMAND_GO, new GoCommand());
             parser.addCommand(CommonFormat.COMMAND_TIMETABLE, new TimetableCommand());
+            parser.addCommand(CommonFormat.COMMAND_SEARCH, new SearchCommand());
+            parser.addCommand(CommonFormat.COMMAND_FIND, new FindCommand());
+            parser.addCommand(CommonFormat.COMMAND_STATS, new StatsCommand());
         }
         return parser;
     }
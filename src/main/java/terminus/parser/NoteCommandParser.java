@@ -1,11 +1,11 @@
 package terminus.parser;
 
 import terminus.command.BackCommand;
-import terminus.command.content.ViewCommand;
 import terminus.command.content.note.AddNoteCommand;
 import terminus.command.content.note.DeleteNoteCommand;
 import terminus.command.content.note.ExportNoteCommand;
 import terminus.command.content.note.ReloadNoteCommand;
+import terminus.command.content.note.ViewNoteCommand;
 import terminus.common.CommonFormat;
 import terminus.common.Messages;
 import terminus.content.Note;
@@ -25,7 +25,7 @@ public class NoteCommandParser extends InnerModuleCommandParser {
             parser = new NoteCommandParser();
             parser.addCommand(CommonFormat.COMMAND_BACK, new BackCommand());
             parser.addCommand(CommonFormat.COMMAND_ADD, new AddNoteCommand());
-            parser.addCommand(CommonFormat.COMMAND_VIEW, new ViewCommand(Note.class));
+            parser.addCommand(CommonFormat.COMMAND_VIEW, new ViewNoteCommand());
             parser.addCommand(CommonFormat.COMMAND_DELETE, new DeleteNoteCommand(Note.class));
             parser.addCommand(CommonFormat.COMMAND_EXPORT, new ExportNoteCommand());
             parser.addCommand(CommonFormat.COMMAND_RELOAD, new ReloadNoteCommand());
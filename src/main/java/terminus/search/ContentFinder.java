@@ -0,0 +1,146 @@
+package terminus.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Pattern;
+import terminus.content.Content;
+import terminus.content.Link;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+/**
+ * ContentFinder class to find the notes, links and questions of all modules whose text matches a pattern.
+ * The modules are split into fork-join tasks that are scanned in parallel, and the results of the tasks are joined
+ * in the order of the modules, so the results are the same as those of a scan of one module after another.
+ */
+public class ContentFinder {
+
+    /**
+     * Largest number of modules scanned by a single task without splitting it.
+     */
+    public static final int MODULES_PER_TASK = 16;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a ContentFinder object that scans modules in the common fork-join pool.
+     */
+    public ContentFinder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a ContentFinder object that scans modules in the given fork-join pool.
+     *
+     * @param pool The pool the scanning tasks run in.
+     */
+    public ContentFinder(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the notes, links and questions of all modules whose text contains a match of the given pattern.
+     * Contents not loaded yet are loaded first, as loading is not done in parallel.
+     *
+     * @param moduleManager The ModuleManager that contains the NusModules.
+     * @param pattern The compiled pattern to be matched.
+     * @return The matching contents, by module in the order of {@link ModuleManager#getAllModules()}, and then by
+     *     notes, links and questions in the order of their indexes.
+     */
+    public List<FindResult> find(ModuleManager moduleManager, Pattern pattern) {
+        String[] moduleNames = moduleManager.getAllModules();
+        ModuleContents[] modules = new ModuleContents[moduleNames.length];
+        for (int i = 0; i < moduleNames.length; i++) {
+            modules[i] = new ModuleContents(moduleNames[i], moduleManager.getModule(moduleNames[i]));
+        }
+        return pool.invoke(new FindTask(modules, 0, modules.length, pattern));
+    }
+
+    /**
+     * Returns the text of the given content to be matched. Only the names of notes too large to be read as a whole
+     * are matched.
+     */
+    private static String getText(Content content) {
+        if (content instanceof Link) {
+            return content.getName() + "\n" + ((Link) content).getLink();
+        }
+        if (content instanceof Note && ((Note) content).isLarge()) {
+            return content.getName();
+        }
+        String data = content.getData();
+        return data == null ? content.getName() : content.getName() + "\n" + data;
+    }
+
+    /**
+     * Contents of a module, which are taken from the module before the scan so that the tasks only read lists.
+     */
+    private static class ModuleContents {
+
+        private final String name;
+        private final List<Note> notes;
+        private final List<Link> links;
+        private final List<Question> questions;
+
+        private ModuleContents(String name, NusModule module) {
+            this.name = name;
+            this.notes = module.getContentManager(Note.class).getContents();
+            this.links = module.getContentManager(Link.class).getContents();
+            this.questions = module.getContentManager(Question.class).getContents();
+        }
+    }
+
+    /**
+     * Task finding the matching contents of a range of modules, which is split in half until it is small enough.
+     */
+    private static class FindTask extends RecursiveTask<List<FindResult>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ModuleContents[] modules;
+        private final int start;
+        private final int end;
+        private final Pattern pattern;
+
+        private FindTask(ModuleContents[] modules, int start, int end, Pattern pattern) {
+            this.modules = modules;
+            this.start = start;
+            this.end = end;
+            this.pattern = pattern;
+        }
+
+        @Override
+        protected List<FindResult> compute() {
+            if (end - start <= MODULES_PER_TASK) {
+                List<FindResult> results = new ArrayList<>();
+                for (int i = start; i < end; i++) {
+                    scan(modules[i].name, Note.class, modules[i].notes, results);
+                    scan(modules[i].name, Link.class, modules[i].links, results);
+                    scan(modules[i].name, Question.class, modules[i].questions, results);
+                }
+                return results;
+            }
+            int middle = (start + end) >>> 1;
+            FindTask firstHalf = new FindTask(modules, start, middle, pattern);
+            firstHalf.fork();
+            List<FindResult> secondResults = new FindTask(modules, middle, end, pattern).compute();
+            List<FindResult> results = firstHalf.join();
+            results.addAll(secondResults);
+            return results;
+        }
+
+        private <T extends Content> void scan(String moduleName, Class<T> type, List<T> contents,
+                List<FindResult> results) {
+            int index = 0;
+            for (T content : contents) {
+                index++;
+                if (pattern.matcher(getText(content)).find()) {
+                    results.add(new FindResult(moduleName, type, index, content));
+                }
+            }
+        }
+    }
+}
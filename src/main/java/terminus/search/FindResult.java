@@ -0,0 +1,45 @@
+package terminus.search;
+
+import terminus.content.Content;
+
+/**
+ * FindResult class to represent a note, link or question whose text matches a find query.
+ */
+public class FindResult {
+
+    private final String moduleName;
+    private final Class<? extends Content> type;
+    private final int index;
+    private final Content content;
+
+    /**
+     * Creates a FindResult object.
+     *
+     * @param moduleName The name of the module containing the content.
+     * @param type The class type of the content.
+     * @param index The 1-based index of the content in its module.
+     * @param content The matching content.
+     */
+    public FindResult(String moduleName, Class<? extends Content> type, int index, Content content) {
+        this.moduleName = moduleName;
+        this.type = type;
+        this.index = index;
+        this.content = content;
+    }
+
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public Class<? extends Content> getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Content getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,367 @@
+package terminus.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import terminus.content.Content;
+import terminus.content.ContentListener;
+import terminus.content.ContentManager;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.module.NusModule;
+
+/**
+ * SearchIndex class to find notes and questions of all modules by the words in them.
+ * Each word is mapped to a postings list of the documents containing it, so a query only visits the documents of
+ * its own words. The index listens to the ContentManager objects of the modules, so it is updated as contents are
+ * added or removed instead of being built again.
+ */
+public class SearchIndex {
+
+    /**
+     * Fraction of removed documents in a postings list, or in the whole index, above which it is compacted.
+     */
+    private static final double MAX_REMOVED_FRACTION = 0.5;
+
+    /**
+     * Documents by their id, where removed documents are null. Ids of removed documents are only freed when the ids
+     * of all documents are compacted, so that postings lists can keep them until then.
+     */
+    private final ArrayList<Document> documents;
+    private final IdentityHashMap<Content, Integer> documentIds;
+    private final HashMap<String, Postings> postings;
+    private int documentCount;
+
+    /**
+     * Listeners added to the ContentManager objects of the indexed modules, so that they can be removed again.
+     */
+    private final IdentityHashMap<ContentManager<?>, ContentListener<?>> listeners;
+
+    public SearchIndex() {
+        this.documents = new ArrayList<>();
+        this.documentIds = new IdentityHashMap<>();
+        this.postings = new HashMap<>();
+        this.listeners = new IdentityHashMap<>();
+    }
+
+    /**
+     * Indexes the notes and questions of the given module, and keeps them indexed as they change.
+     *
+     * @param module The module to be indexed.
+     */
+    public void addModule(NusModule module) {
+        addContents(module, module.getContentManager(Note.class));
+        addContents(module, module.getContentManager(Question.class));
+    }
+
+    /**
+     * Removes the notes and questions of the given module from the index, and stops following their changes.
+     *
+     * @param module The module to be removed.
+     */
+    public void removeModule(NusModule module) {
+        removeContents(module.getContentManager(Note.class));
+        removeContents(module.getContentManager(Question.class));
+    }
+
+    /**
+     * Returns the number of indexed notes and questions.
+     *
+     * @return The number of documents in the index.
+     */
+    public int getDocumentCount() {
+        return documentCount;
+    }
+
+    /**
+     * Returns the documents matching the most words of the query, ranked by the number of query words they contain
+     * and then by a TF-IDF score, where words found in fewer documents count for more.
+     *
+     * @param query The words to be searched for.
+     * @param maxResults The maximum number of results.
+     * @return The best matching results in descending order of rank.
+     */
+    public List<SearchResult> search(String query, int maxResults) {
+        if (maxResults <= 0) {
+            return List.of();
+        }
+        List<Postings> queryPostings = new ArrayList<>();
+        int postingsCount = 0;
+        for (String word : tokenize(query).keySet()) {
+            Postings wordPostings = postings.get(word);
+            if (wordPostings != null) {
+                queryPostings.add(wordPostings);
+                postingsCount += wordPostings.liveCount;
+            }
+        }
+        // Scores are only kept for the matched documents, which are at most all documents in the postings lists
+        HashMap<Integer, Match> matches = new HashMap<>((int) (Math.min(postingsCount, documentCount) / 0.75) + 1);
+        for (Postings wordPostings : queryPostings) {
+            double inverseFrequency = Math.log(1 + (double) documentCount / wordPostings.liveCount);
+            for (int i = 0; i < wordPostings.size; i++) {
+                int id = wordPostings.ids[i];
+                if (documents.get(id) == null) {
+                    continue;
+                }
+                Match match = matches.computeIfAbsent(id, matchedId -> new Match());
+                match.count++;
+                match.score += wordPostings.weights[i] * inverseFrequency;
+            }
+        }
+        PriorityQueue<SearchResult> bestResults = new PriorityQueue<>(SearchResult.RANK_ORDER);
+        for (Map.Entry<Integer, Match> entry : matches.entrySet()) {
+            Match match = entry.getValue();
+            if (bestResults.size() == maxResults && !isRankedHigher(match.count, match.score, bestResults.peek())) {
+                // Results outside the best ones so far are never created
+                continue;
+            }
+            Document document = documents.get(entry.getKey());
+            bestResults.add(new SearchResult(document.module, document.content, match.count, match.score));
+            if (bestResults.size() > maxResults) {
+                bestResults.poll();
+            }
+        }
+        SearchResult[] results = bestResults.toArray(new SearchResult[0]);
+        Arrays.sort(results, SearchResult.RANK_ORDER.reversed());
+        return Arrays.asList(results);
+    }
+
+    private static boolean isRankedHigher(int matchCount, double score, SearchResult result) {
+        if (matchCount != result.getMatchCount()) {
+            return matchCount > result.getMatchCount();
+        }
+        return score > result.getScore();
+    }
+
+    private <T extends Content> void addContents(NusModule module, ContentManager<T> contentManager) {
+        for (T content : contentManager.getContents()) {
+            add(module, content);
+        }
+        if (listeners.containsKey(contentManager)) {
+            return;
+        }
+        ContentListener<T> listener = new ContentListener<>() {
+            @Override
+            public void contentAdded(T content) {
+                add(module, content);
+            }
+
+            @Override
+            public void contentRemoved(T content) {
+                remove(content);
+            }
+        };
+        contentManager.addListener(listener);
+        listeners.put(contentManager, listener);
+    }
+
+    private <T extends Content> void removeContents(ContentManager<T> contentManager) {
+        // Only listeners created for this ContentManager in addContents are kept under it
+        @SuppressWarnings("unchecked")
+        ContentListener<T> listener = (ContentListener<T>) listeners.remove(contentManager);
+        if (listener != null) {
+            contentManager.removeListener(listener);
+        }
+        for (T content : contentManager.getContents()) {
+            remove(content);
+        }
+    }
+
+    private void add(NusModule module, Content content) {
+        if (documentIds.containsKey(content)) {
+            return;
+        }
+        int id = documents.size();
+        Map<String, Integer> wordCounts = tokenize(getText(content));
+        documents.add(new Document(module, content, wordCounts.keySet().toArray(new String[0])));
+        documentIds.put(content, id);
+        documentCount++;
+        for (Map.Entry<String, Integer> wordCount : wordCounts.entrySet()) {
+            postings.computeIfAbsent(wordCount.getKey(), word -> new Postings()).add(id, wordCount.getValue());
+        }
+    }
+
+    private void remove(Content content) {
+        Integer id = documentIds.remove(content);
+        if (id == null) {
+            return;
+        }
+        Document document = documents.set(id, null);
+        documentCount--;
+        for (String word : document.words) {
+            Postings wordPostings = postings.get(word);
+            wordPostings.liveCount--;
+            if (wordPostings.liveCount == 0) {
+                postings.remove(word);
+            } else if (wordPostings.liveCount < wordPostings.size * (1 - MAX_REMOVED_FRACTION)) {
+                wordPostings.compact(documents);
+            }
+        }
+        if (documentCount < documents.size() * (1 - MAX_REMOVED_FRACTION)) {
+            compactIds();
+        }
+    }
+
+    /**
+     * Gives the documents left new ids in the same order, so that the ids of removed documents are freed and the
+     * postings lists no longer hold them.
+     */
+    private void compactIds() {
+        int[] newIds = new int[documents.size()];
+        ArrayList<Document> liveDocuments = new ArrayList<>(documentCount);
+        for (int id = 0; id < documents.size(); id++) {
+            Document document = documents.get(id);
+            if (document == null) {
+                newIds[id] = -1;
+                continue;
+            }
+            newIds[id] = liveDocuments.size();
+            documentIds.put(document.content, liveDocuments.size());
+            liveDocuments.add(document);
+        }
+        documents.clear();
+        documents.addAll(liveDocuments);
+        documents.trimToSize();
+        for (Postings wordPostings : postings.values()) {
+            wordPostings.renumber(newIds);
+        }
+    }
+
+    /**
+     * Returns the number of ids taken by the documents in the index, including the ids of removed documents that
+     * have not been freed yet.
+     *
+     * @return The number of document ids.
+     */
+    int getIdCount() {
+        return documents.size();
+    }
+
+    /**
+     * Returns the text of the given content to be indexed. Only the names of notes too large to be read as a whole
+     * are indexed.
+     */
+    private static String getText(Content content) {
+        if (content instanceof Note && ((Note) content).isLarge()) {
+            return content.getName();
+        }
+        String data = content.getData();
+        return data == null ? content.getName() : content.getName() + " " + data;
+    }
+
+    /**
+     * Splits the given text into lower case words of letters and digits, and counts each word.
+     *
+     * @param text The text to be split.
+     * @return The number of times each word appears, in the order the words first appear.
+     */
+    static Map<String, Integer> tokenize(String text) {
+        LinkedHashMap<String, Integer> wordCounts = new LinkedHashMap<>();
+        if (text == null) {
+            return wordCounts;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                wordCounts.merge(text.substring(start, i).toLowerCase(Locale.ROOT), 1, Integer::sum);
+                start = -1;
+            }
+        }
+        return wordCounts;
+    }
+
+    /**
+     * Number of query words found in a document, and the score of the document for them.
+     */
+    private static class Match {
+
+        private int count;
+        private double score;
+    }
+
+    private static class Document {
+
+        private final NusModule module;
+        private final Content content;
+
+        /**
+         * Distinct words of the content, which are used to remove it from their postings lists.
+         */
+        private final String[] words;
+
+        private Document(NusModule module, Content content, String[] words) {
+            this.module = module;
+            this.content = content;
+            this.words = words;
+        }
+    }
+
+    /**
+     * Ids of the documents containing a word in increasing order, and the weight of the word in each, which grows
+     * with the logarithm of the number of times it appears.
+     */
+    private static class Postings {
+
+        private int[] ids;
+        private float[] weights;
+        private int size;
+
+        /**
+         * Number of ids in the list whose documents have not been removed.
+         */
+        private int liveCount;
+
+        private Postings() {
+            this.ids = new int[1];
+            this.weights = new float[1];
+        }
+
+        private void add(int id, int frequency) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ids[size] = id;
+            weights[size] = (float) (1 + Math.log(frequency));
+            size++;
+            liveCount++;
+        }
+
+        private void compact(List<Document> documents) {
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (documents.get(ids[i]) != null) {
+                    ids[newSize] = ids[i];
+                    weights[newSize] = weights[i];
+                    newSize++;
+                }
+            }
+            size = newSize;
+        }
+
+        /**
+         * Replaces each id with its new id, and drops the ids of removed documents, which have no new id.
+         */
+        private void renumber(int[] newIds) {
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                int newId = newIds[ids[i]];
+                if (newId >= 0) {
+                    ids[newSize] = newId;
+                    weights[newSize] = weights[i];
+                    newSize++;
+                }
+            }
+            size = newSize;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package terminus.search;
+
+import java.util.Comparator;
+import terminus.content.Content;
+import terminus.module.NusModule;
+
+/**
+ * SearchResult class to represent a note or question matching a search query.
+ */
+public class SearchResult {
+
+    /**
+     * Orders results from the lowest to the highest rank.
+     */
+    static final Comparator<SearchResult> RANK_ORDER = Comparator.comparingInt(SearchResult::getMatchCount)
+            .thenComparingDouble(SearchResult::getScore);
+
+    private final NusModule module;
+    private final Content content;
+    private final int matchCount;
+    private final double score;
+
+    /**
+     * Creates a SearchResult object.
+     *
+     * @param module The module containing the content.
+     * @param content The matching note or question.
+     * @param matchCount The number of distinct query words found in the content.
+     * @param score The TF-IDF score of the content for the query.
+     */
+    public SearchResult(NusModule module, Content content, int matchCount, double score) {
+        this.module = module;
+        this.content = content;
+        this.matchCount = matchCount;
+        this.score = score;
+    }
+
+    public NusModule getModule() {
+        return module;
+    }
+
+    public Content getContent() {
+        return content;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,199 @@
+package terminus.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TrigramIndex class to find items by a fragment of their names, or by a name with typos.
+ * Each name is split into its sequences of three characters, and each trigram is mapped to the items whose names
+ * contain it. A fragment is only compared with the items sharing its rarest trigram, instead of with every name.
+ *
+ * @param <T> Item type.
+ */
+public class TrigramIndex<T> {
+
+    /**
+     * Minimum similarity between the trigrams of a name and of a fragment for the name to match with typos.
+     */
+    public static final double MIN_SIMILARITY = 0.3;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String START_PADDING = "  ";
+    private static final String END_PADDING = " ";
+
+    /**
+     * Items whose padded names contain each trigram.
+     */
+    private final HashMap<String, Set<T>> trigramItems;
+
+    /**
+     * Lower case name of each item, where items are compared by identity.
+     */
+    private final IdentityHashMap<T, IndexedName> names;
+
+    public TrigramIndex() {
+        this.trigramItems = new HashMap<>();
+        this.names = new IdentityHashMap<>();
+    }
+
+    /**
+     * Adds an item with the given name to the index.
+     *
+     * @param name The name of the item.
+     * @param item The item to be added.
+     */
+    public void add(String name, T item) {
+        if (names.containsKey(item)) {
+            return;
+        }
+        IndexedName indexedName = new IndexedName(getKey(name));
+        names.put(item, indexedName);
+        for (String trigram : getTrigrams(indexedName.paddedKey)) {
+            trigramItems.computeIfAbsent(trigram, gram -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(item);
+        }
+    }
+
+    /**
+     * Removes the given item from the index.
+     *
+     * @param item The item to be removed.
+     */
+    public void remove(T item) {
+        IndexedName indexedName = names.remove(item);
+        if (indexedName == null) {
+            return;
+        }
+        for (String trigram : getTrigrams(indexedName.paddedKey)) {
+            Set<T> items = trigramItems.get(trigram);
+            items.remove(item);
+            if (items.isEmpty()) {
+                trigramItems.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the items whose names contain the given fragment, ignoring case. An item with exactly the fragment as
+     * its name comes first, followed by names starting with it and then by shorter names. If no name contains the
+     * fragment, the names most similar to it are returned instead, so that typos are tolerated.
+     *
+     * @param fragment The fragment of the name.
+     * @return The matching items, with the best match first.
+     */
+    public List<T> find(String fragment) {
+        String key = getKey(fragment);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<T> matches = findSubstring(key);
+        if (!matches.isEmpty()) {
+            matches.sort(Comparator.comparingInt((T item) -> getSubstringRank(names.get(item).key, key))
+                    .thenComparingInt(item -> names.get(item).key.length()));
+            return matches;
+        }
+        return findSimilar(key);
+    }
+
+    private List<T> findSubstring(String key) {
+        ArrayList<T> matches = new ArrayList<>();
+        Set<String> trigrams = getTrigrams(key);
+        if (trigrams.isEmpty()) {
+            // Fragments shorter than a trigram are compared with every name
+            for (Map.Entry<T, IndexedName> entry : names.entrySet()) {
+                if (entry.getValue().key.contains(key)) {
+                    matches.add(entry.getKey());
+                }
+            }
+            return matches;
+        }
+        Set<T> candidates = null;
+        for (String trigram : trigrams) {
+            Set<T> items = trigramItems.get(trigram);
+            if (items == null) {
+                return matches;
+            }
+            if (candidates == null || items.size() < candidates.size()) {
+                candidates = items;
+            }
+        }
+        for (T candidate : candidates) {
+            if (names.get(candidate).key.contains(key)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the items sharing enough trigrams with the key, by the Jaccard similarity of their trigram sets.
+     * A similar name shares at least a minimum number of trigrams with the key, so it must contain one of the rarest
+     * trigrams of the key apart from that number less one. Only the items of those trigrams are compared.
+     */
+    private List<T> findSimilar(String key) {
+        List<String> keyTrigrams = new ArrayList<>(getTrigrams(START_PADDING + key + END_PADDING));
+        keyTrigrams.sort(Comparator.comparingInt(trigram -> trigramItems.getOrDefault(trigram, Set.of()).size()));
+        int minSharedCount = Math.max(1, (int) Math.ceil(MIN_SIMILARITY * keyTrigrams.size() - 1e-9));
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i <= keyTrigrams.size() - minSharedCount; i++) {
+            candidates.addAll(trigramItems.getOrDefault(keyTrigrams.get(i), Set.of()));
+        }
+        IdentityHashMap<T, Double> similarities = new IdentityHashMap<>();
+        for (T candidate : candidates) {
+            IndexedName name = names.get(candidate);
+            int sharedCount = 0;
+            for (String trigram : keyTrigrams) {
+                if (name.paddedKey.contains(trigram)) {
+                    sharedCount++;
+                }
+            }
+            double similarity = (double) sharedCount / (keyTrigrams.size() + name.trigramCount - sharedCount);
+            if (similarity >= MIN_SIMILARITY) {
+                similarities.put(candidate, similarity);
+            }
+        }
+        ArrayList<T> matches = new ArrayList<>(similarities.keySet());
+        matches.sort(Comparator.comparingDouble((T item) -> similarities.get(item)).reversed());
+        return matches;
+    }
+
+    private static int getSubstringRank(String name, String key) {
+        if (name.equals(key)) {
+            return 0;
+        }
+        return name.startsWith(key) ? 1 : 2;
+    }
+
+    private static String getKey(String name) {
+        return name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> getTrigrams(String text) {
+        LinkedHashSet<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static class IndexedName {
+
+        private final String key;
+        private final String paddedKey;
+        private final int trigramCount;
+
+        private IndexedName(String key) {
+            this.key = key;
+            this.paddedKey = START_PADDING + key + END_PADDING;
+            this.trigramCount = getTrigrams(paddedKey).size();
+        }
+    }
+}
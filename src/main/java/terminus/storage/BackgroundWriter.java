@@ -0,0 +1,221 @@
+package terminus.storage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import terminus.common.Messages;
+import terminus.common.TerminusLogger;
+import terminus.exception.InvalidFileException;
+
+/**
+ * BackgroundWriter class to append journal entries on a dedicated thread, away from the command loop.
+ * Entries for the same module that are waiting to be written are coalesced so that only the latest one is written.
+ */
+public class BackgroundWriter {
+
+    private static final String THREAD_NAME = "TermiNUS-Writer";
+
+    private final JournalStorage journalStorage;
+    private final JsonStorage jsonStorage;
+
+    /**
+     * Journal entries waiting to be written, keyed by their module name.
+     */
+    private final LinkedHashMap<String, JournalEntry> pendingEntries;
+
+    private Thread thread;
+    private boolean isWriting;
+    private boolean isClosed;
+    private boolean isCompactionRequested;
+    private long compactionThreshold;
+
+    /**
+     * The error from the last failed write, which is reported on the next submission.
+     */
+    private InvalidFileException error;
+
+    /**
+     * Creates a BackgroundWriter object. The writer thread is only started on the first submission.
+     *
+     * @param journalStorage The JournalStorage that entries are appended to.
+     * @param jsonStorage The JsonStorage of the main json file that the journal is compacted into.
+     * @param compactionThreshold The size of the journal file in bytes before it is compacted.
+     */
+    public BackgroundWriter(JournalStorage journalStorage, JsonStorage jsonStorage, long compactionThreshold) {
+        this.journalStorage = journalStorage;
+        this.jsonStorage = jsonStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.pendingEntries = new LinkedHashMap<>();
+    }
+
+    /**
+     * Queues journal entries to be written in the background.
+     *
+     * @param entries The journal entries to be written, keyed by their module name.
+     * @throws InvalidFileException when an earlier write in the background has failed.
+     */
+    public synchronized void submit(Map<String, JournalEntry> entries) throws InvalidFileException {
+        if (error != null) {
+            InvalidFileException lastError = error;
+            error = null;
+            notifyAll();
+            throw lastError;
+        }
+        enqueue(entries);
+    }
+
+    private synchronized void enqueue(Map<String, JournalEntry> entries) {
+        for (Map.Entry<String, JournalEntry> entry : entries.entrySet()) {
+            JournalEntry earlier = pendingEntries.remove(entry.getKey());
+            pendingEntries.put(entry.getKey(), entry.getValue().combine(earlier));
+        }
+        startIfRequired();
+        notifyAll();
+    }
+
+    /**
+     * Requests the journal to be compacted in the background if it is past the compaction threshold.
+     */
+    public synchronized void requestCompaction() {
+        isCompactionRequested = true;
+        startIfRequired();
+        notifyAll();
+    }
+
+    /**
+     * Waits until all queued journal entries are written.
+     *
+     * @throws InvalidFileException when a write in the background has failed.
+     */
+    public synchronized void flush() throws InvalidFileException {
+        while (hasWork() || isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (error != null) {
+            InvalidFileException lastError = error;
+            error = null;
+            throw lastError;
+        }
+    }
+
+    /**
+     * Writes the given and all queued journal entries and stops the writer thread.
+     * Entries left over from a failed write are attempted once more on the calling thread.
+     *
+     * @param entries The last journal entries to be written, keyed by their module name.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public void close(Map<String, JournalEntry> entries) throws InvalidFileException {
+        Thread writerThread;
+        synchronized (this) {
+            enqueue(entries);
+            isClosed = true;
+            writerThread = thread;
+            notifyAll();
+        }
+        if (writerThread != null) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            error = null;
+            if (!pendingEntries.isEmpty()) {
+                journalStorage.appendEntries(pendingEntries.values());
+                pendingEntries.clear();
+            }
+        }
+    }
+
+    /**
+     * Sets the size of the journal file in bytes before it is compacted.
+     *
+     * @param compactionThreshold The size of the journal file in bytes.
+     */
+    public synchronized void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    private void startIfRequired() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private boolean hasWork() {
+        return error == null && (!pendingEntries.isEmpty() || isCompactionRequested);
+    }
+
+    private void run() {
+        while (true) {
+            Map<String, JournalEntry> batch;
+            long threshold;
+            synchronized (this) {
+                while (!hasWork() && !isClosed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (!hasWork()) {
+                    return;
+                }
+                batch = new LinkedHashMap<>(pendingEntries);
+                pendingEntries.clear();
+                isCompactionRequested = false;
+                threshold = compactionThreshold;
+                isWriting = true;
+            }
+            try {
+                if (!batch.isEmpty()) {
+                    journalStorage.appendEntries(batch.values());
+                }
+                compactIfRequired(threshold);
+            } catch (InvalidFileException e) {
+                TerminusLogger.warning(String.format(Messages.ERROR_MESSAGE_FILE, e.getMessage()));
+                requeue(batch, e);
+            } finally {
+                synchronized (this) {
+                    isWriting = false;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts back entries of a failed write, combined with any newer entry for the same module queued in the meantime.
+     */
+    private synchronized void requeue(Map<String, JournalEntry> batch, InvalidFileException e) {
+        LinkedHashMap<String, JournalEntry> entries = new LinkedHashMap<>(batch);
+        for (Map.Entry<String, JournalEntry> entry : pendingEntries.entrySet()) {
+            JournalEntry earlier = entries.remove(entry.getKey());
+            entries.put(entry.getKey(), entry.getValue().combine(earlier));
+        }
+        pendingEntries.clear();
+        pendingEntries.putAll(entries);
+        error = e;
+    }
+
+    private void compactIfRequired(long threshold) {
+        if (journalStorage.getJournalSize() < threshold) {
+            return;
+        }
+        try {
+            journalStorage.compact(jsonStorage);
+        } catch (InvalidFileException e) {
+            // The journal is left as it is and replayed on the next start
+            TerminusLogger.warning(String.format(Messages.ERROR_JOURNAL_COMPACT, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package terminus.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.List;
+import terminus.common.Messages;
+import terminus.content.ContentManager;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.exception.InvalidFileException;
+import terminus.module.NusModule;
+
+/**
+ * BinaryStorage class to handle the compact binary format of module data.
+ * Each file starts with a magic number, the format version and the type of data it holds. Strings are stored as
+ * length-prefixed UTF-8, start times as minutes of the day and question weights as raw doubles.
+ */
+public class BinaryStorage extends Storage {
+
+    /**
+     * Name of the binary data file of a module, which is stored in the module folder next to its notes.
+     */
+    public static final String MODULE_FILE_NAME = "data.bin";
+
+    /**
+     * Version of the binary format written by this class.
+     */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x544E5553;
+    private static final byte NUS_MODULE_TYPE = 2;
+    private static final int NULL_LENGTH = -1;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    /**
+     * Saves the links and questions of a module into the given binary file.
+     *
+     * @param filePath The full path of the binary file.
+     * @param module The NusModule to be saved.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public void saveModule(Path filePath, NusModule module) throws InvalidFileException {
+        assert module != null;
+        writeStream(filePath, output -> {
+            DataOutputStream dataOutput = new DataOutputStream(output);
+            writeHeader(dataOutput, NUS_MODULE_TYPE);
+            writeModule(dataOutput, module);
+            dataOutput.flush();
+        });
+    }
+
+    /**
+     * Loads the links and questions of a module from the given binary file.
+     *
+     * @param filePath The full path of the binary file.
+     * @return The NusModule containing the links and questions in the file.
+     * @throws InvalidFileException when any file I/O operations has error or the file is not a valid binary file.
+     */
+    public NusModule loadModule(Path filePath) throws InvalidFileException {
+        try (DataInputStream input = openFile(filePath, NUS_MODULE_TYPE)) {
+            return readModule(input);
+        } catch (IOException e) {
+            throw new InvalidFileException(String.format(Messages.ERROR_FILE_BUFFERED_READER, filePath));
+        }
+    }
+
+    private void writeHeader(DataOutputStream output, byte type) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeByte(type);
+    }
+
+    private DataInputStream openFile(Path filePath, byte type) throws IOException, InvalidFileException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(filePath)));
+        if (input.readInt() != MAGIC) {
+            throw new IOException(String.format(Messages.ERROR_FILE_BUFFERED_READER, filePath));
+        }
+        int version = input.readShort();
+        if (version != VERSION) {
+            throw new InvalidFileException(String.format(Messages.ERROR_BINARY_VERSION, version, filePath));
+        }
+        if (input.readByte() != type) {
+            throw new IOException(String.format(Messages.ERROR_FILE_BUFFERED_READER, filePath));
+        }
+        return input;
+    }
+
+    private void writeModule(DataOutputStream output, NusModule module) throws IOException {
+        List<Link> links = module.getContentManager(Link.class).getContents();
+        output.writeInt(links.size());
+        for (Link link : links) {
+            writeString(output, link.getName());
+            writeString(output, link.getDay());
+            writeTime(output, link.getStartTime());
+            output.writeInt(link.getDuration());
+            writeString(output, link.getLink());
+        }
+        List<Question> questions = module.getContentManager(Question.class).getContents();
+        output.writeInt(questions.size());
+        for (Question question : questions) {
+            writeString(output, question.getQuestion());
+            writeString(output, question.getAnswer());
+            output.writeDouble(question.getWeight());
+        }
+    }
+
+    private NusModule readModule(DataInputStream input) throws IOException {
+        NusModule module = new NusModule();
+        ContentManager<Link> linkContentManager = module.getContentManager(Link.class);
+        int linkCount = readCount(input);
+        for (int i = 0; i < linkCount; i++) {
+            String name = readString(input);
+            String day = readString(input);
+            LocalTime startTime = readTime(input);
+            int duration = input.readInt();
+            linkContentManager.add(new Link(name, day, startTime, duration, readString(input)));
+        }
+        ContentManager<Question> questionContentManager = module.getContentManager(Question.class);
+        int questionCount = readCount(input);
+        for (int i = 0; i < questionCount; i++) {
+            Question question = new Question(readString(input), readString(input));
+            question.setWeight(input.readDouble());
+            questionContentManager.add(question);
+        }
+        module.setModified(false);
+        return module;
+    }
+
+    private int readCount(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        if (count < 0 || count > input.available()) {
+            throw new IOException("Invalid number of items.");
+        }
+        return count;
+    }
+
+    private void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > input.available()) {
+            throw new IOException("Invalid string length.");
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeTime(DataOutputStream output, LocalTime time) throws IOException {
+        if (time == null) {
+            output.writeShort(NULL_LENGTH);
+            return;
+        }
+        output.writeShort(time.getHour() * MINUTES_PER_HOUR + time.getMinute());
+    }
+
+    private LocalTime readTime(DataInputStream input) throws IOException {
+        int minutes = input.readShort();
+        if (minutes == NULL_LENGTH) {
+            return null;
+        }
+        if (minutes < 0 || minutes >= 24 * MINUTES_PER_HOUR) {
+            throw new IOException("Invalid start time.");
+        }
+        return LocalTime.of(minutes / MINUTES_PER_HOUR, minutes % MINUTES_PER_HOUR);
+    }
+}
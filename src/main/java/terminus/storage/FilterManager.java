@@ -1,6 +1,7 @@
 package terminus.storage;
 
 import java.util.ArrayList;
+import java.util.List;
 import terminus.common.CommonFormat;
 import terminus.common.CommonUtils;
 import terminus.content.ContentManager;
@@ -16,6 +17,7 @@ public class FilterManager {
 
     /**
      * Filters the data in ModuleManager.
+     * Only the names of modules whose contents have not been loaded yet are filtered.
      *
      * @param moduleManager The data from the main json used throughout TermiNUS.
      */
@@ -34,10 +36,15 @@ public class FilterManager {
                     moduleManager.removeModule(module);
                     continue;
                 }
-                ContentManager<Link> linkContentManager = moduleObject.getContentManager(Link.class);
-                filterLink(linkContentManager);
-                ContentManager<Question> questionContentManager = moduleObject.getContentManager(Question.class);
-                filterQuestion(questionContentManager);
+                // Contents not loaded yet are filtered when they are loaded
+                if (moduleObject.isLoaded(Link.class)) {
+                    ContentManager<Link> linkContentManager = moduleObject.getContentManager(Link.class);
+                    filterLink(linkContentManager);
+                }
+                if (moduleObject.isLoaded(Question.class)) {
+                    ContentManager<Question> questionContentManager = moduleObject.getContentManager(Question.class);
+                    filterQuestion(questionContentManager);
+                }
             }
         }
     }
@@ -51,7 +58,7 @@ public class FilterManager {
         if (linkContentManager == null) {
             return;
         }
-        ArrayList<Link> linkArrayList = linkContentManager.getContents();
+        List<Link> linkArrayList = linkContentManager.getContents();
         ArrayList<Link> validArrayList = new ArrayList<>();
         for (Link link : linkArrayList) {
             if (isScheduleValid(link)) {
@@ -70,7 +77,7 @@ public class FilterManager {
         if (questionContentManager == null) {
             return;
         }
-        ArrayList<Question> questionArrayList = questionContentManager.getContents();
+        List<Question> questionArrayList = questionContentManager.getContents();
         ArrayList<Question> validQuestionArrayList = new ArrayList<>();
         for (Question question : questionArrayList) {
             if (isQuestionValid(question)) {
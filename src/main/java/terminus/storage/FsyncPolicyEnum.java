@@ -0,0 +1,20 @@
+package terminus.storage;
+
+/**
+ * Policies of forcing written files onto the disk. A file replaced by a write is forced before the replacement
+ * under both ALWAYS and BATCHED, so it is never left partially written after a power failure.
+ */
+public enum FsyncPolicyEnum {
+    /**
+     * Every write and append is forced onto the disk.
+     */
+    ALWAYS,
+    /**
+     * Appends are forced in batches, so the latest appends can be lost on a power failure.
+     */
+    BATCHED,
+    /**
+     * Nothing is forced, and the operating system decides when written content reaches the disk.
+     */
+    NEVER
+}
@@ -0,0 +1,88 @@
+package terminus.storage;
+
+import java.util.ArrayList;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.module.NusModule;
+
+/**
+ * JournalEntry class to represent a single change to a module recorded in the journal file.
+ * Only the types of contents that changed are recorded, and the others are left as they are in the data file.
+ */
+public class JournalEntry {
+
+    private StorageActionEnum action;
+    private String module;
+    private ArrayList<Link> links;
+    private ArrayList<Question> questions;
+
+    /**
+     * Creates a JournalEntry object.
+     *
+     * @param action The change made to the module. Either UPDATE or DELETE.
+     * @param module The name of the changed module.
+     * @param links The links of the module after the change, null if they did not change.
+     * @param questions The questions of the module after the change, null if they did not change.
+     */
+    public JournalEntry(StorageActionEnum action, String module, ArrayList<Link> links,
+            ArrayList<Question> questions) {
+        this.action = action;
+        this.module = module;
+        this.links = links;
+        this.questions = questions;
+    }
+
+    public StorageActionEnum getAction() {
+        return action;
+    }
+
+    public String getModule() {
+        return module;
+    }
+
+    public ArrayList<Link> getLinks() {
+        return links;
+    }
+
+    public ArrayList<Question> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * Replaces the contents of the given module with the contents recorded in this entry.
+     *
+     * @param nusModule The NusModule to apply the change to.
+     */
+    public void applyTo(NusModule nusModule) {
+        if (links != null) {
+            nusModule.setContents(Link.class, links);
+        }
+        if (questions != null) {
+            nusModule.setContents(Question.class, questions);
+        }
+    }
+
+    /**
+     * Returns an entry with the changes of both the given earlier entry and this entry of the same module, so that
+     * the earlier entry can be replaced. Contents recorded in this entry take the place of those in the earlier one.
+     *
+     * @param earlier The earlier entry of the same module, or null if there is none.
+     * @return The combined entry.
+     */
+    public JournalEntry combine(JournalEntry earlier) {
+        if (earlier == null || action == StorageActionEnum.DELETE || earlier.action == StorageActionEnum.DELETE) {
+            return this;
+        }
+        return new JournalEntry(action, module, links == null ? earlier.links : links,
+                questions == null ? earlier.questions : questions);
+    }
+
+    /**
+     * Returns true if this entry records all types of contents stored in the data file.
+     *
+     * @return True if both links and questions are recorded, false otherwise.
+     */
+    public boolean isComplete() {
+        return links != null && questions != null;
+    }
+}
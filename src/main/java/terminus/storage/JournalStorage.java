@@ -0,0 +1,363 @@
+package terminus.storage;
+
+import com.google.gson.Gson;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import terminus.common.CommonUtils;
+import terminus.common.Messages;
+import terminus.common.TerminusLogger;
+import terminus.content.Content;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.exception.InvalidFileException;
+import terminus.module.ContentLoader;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+import terminus.storage.adapter.TypeAdapters;
+
+/**
+ * JournalStorage class to handle the append-only journal of changes made to the main json file.
+ * Each line in the journal contains the latest contents of each type of content that changed in a module, so
+ * replaying the journal on top of the module data files in order restores all changes made since the last compaction.
+ * An incomplete last line left by an interrupted append is cut off before anything else is appended, so that it is
+ * never joined with the next entry.
+ */
+public class JournalStorage extends Storage {
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String COMPACTING_EXTENSION = ".compacting";
+
+    private Path journalFilePath;
+    private Path compactingFilePath;
+    private Gson gson;
+
+    /**
+     * Determines whether incomplete last lines of the journal files have been cut off since they were opened.
+     */
+    private boolean isRepaired;
+
+    /**
+     * Initialise a JournalStorage object for the given main json file.
+     *
+     * @param baseDirectory The base directory in which all items is stored in.
+     * @param jsonFileName The name of the main json file that the journal belongs to.
+     */
+    public JournalStorage(Path baseDirectory, String jsonFileName) {
+        String journalName = CommonUtils.getFileNameOnly(jsonFileName);
+        if (journalName == null) {
+            journalName = jsonFileName;
+        }
+        this.journalFilePath = getAppendPath(baseDirectory, journalName + JOURNAL_EXTENSION);
+        this.compactingFilePath = getAppendPath(baseDirectory, journalName + COMPACTING_EXTENSION);
+        this.gson = TypeAdapters.createGsonBuilder().create();
+    }
+
+    /**
+     * Executes the specified operation with the given arguments.
+     *
+     * @param moduleManager The Module Manager containing all item information used in TermiNUS.
+     * @param action The operation type to determine which operation to execute.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public void execute(ModuleManager moduleManager, StorageActionEnum action) throws InvalidFileException {
+        switch (action) {
+        case UPDATE:
+            TerminusLogger.info(String.format("Appending changes to journal file : %s", journalFilePath));
+            appendChanges(moduleManager);
+            break;
+        case LOAD:
+            TerminusLogger.info(String.format("Replaying journal file : %s", journalFilePath));
+            replay(moduleManager);
+            break;
+        default:
+            throw new InvalidFileException(Messages.ERROR_STORAGE_INVALID_TYPE);
+        }
+    }
+
+    /**
+     * Appends one entry for every module that was added, changed or removed since the last save.
+     *
+     * @param moduleManager The Module Manager containing all item information used in TermiNUS.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    protected synchronized void appendChanges(ModuleManager moduleManager) throws InvalidFileException {
+        appendEntries(createEntries(moduleManager).values());
+    }
+
+    /**
+     * Creates one journal entry for every module that was added, changed or removed since the last save.
+     * Each entry holds a copy of the types of contents that changed in its module, so that it can be written on
+     * another thread while the module keeps changing. Added modules hold every type of content that is loaded, as the
+     * contents not loaded yet are the ones in their module folder.
+     *
+     * @param moduleManager The Module Manager containing all item information used in TermiNUS.
+     * @return The journal entries, keyed by their module name.
+     */
+    public LinkedHashMap<String, JournalEntry> createEntries(ModuleManager moduleManager) {
+        assert moduleManager != null;
+        LinkedHashMap<String, JournalEntry> entries = new LinkedHashMap<>();
+        for (String module : moduleManager.getRemovedModules()) {
+            entries.put(module, new JournalEntry(StorageActionEnum.DELETE, module, null, null));
+        }
+        Set<String> addedModules = moduleManager.getAddedModules();
+        for (String module : moduleManager.getModifiedModules()) {
+            NusModule nusModule = moduleManager.getModule(module);
+            boolean isAdded = addedModules.contains(module);
+            ArrayList<Link> links = isChanged(nusModule, Link.class, isAdded) ? copyLinks(nusModule) : null;
+            ArrayList<Question> questions = isChanged(nusModule, Question.class, isAdded)
+                    ? copyQuestions(nusModule) : null;
+            entries.put(module, new JournalEntry(StorageActionEnum.UPDATE, module, links, questions));
+        }
+        return entries;
+    }
+
+    private boolean isChanged(NusModule module, Class<? extends Content> type, boolean isAdded) {
+        return module.isLoaded(type) && (isAdded || module.getContentManager(type).isModified());
+    }
+
+    private ArrayList<Link> copyLinks(NusModule module) {
+        List<Link> links = module.getContentManager(Link.class).getContents();
+        ArrayList<Link> copiedLinks = new ArrayList<>(links.size());
+        for (Link link : links) {
+            copiedLinks.add(new Link(link.getName(), link.getDay(), link.getStartTime(), link.getDuration(),
+                    link.getLink()));
+        }
+        return copiedLinks;
+    }
+
+    private ArrayList<Question> copyQuestions(NusModule module) {
+        List<Question> questions = module.getContentManager(Question.class).getContents();
+        ArrayList<Question> copiedQuestions = new ArrayList<>(questions.size());
+        for (Question question : questions) {
+            Question copiedQuestion = new Question(question.getQuestion(), question.getAnswer());
+            copiedQuestion.setWeight(question.getWeight());
+            copiedQuestions.add(copiedQuestion);
+        }
+        return copiedQuestions;
+    }
+
+    /**
+     * Appends the given journal entries to the journal, streaming each of them into the file as a line of json.
+     * A failed append may leave an incomplete last line, which is cut off again before the next append.
+     *
+     * @param entries The journal entries.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    protected synchronized void appendEntries(Collection<JournalEntry> entries) throws InvalidFileException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        repair();
+        try {
+            appendStream(journalFilePath, output -> {
+                Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+                for (JournalEntry entry : entries) {
+                    gson.toJson(entry, JournalEntry.class, gson.newJsonWriter(writer));
+                    writer.write(System.lineSeparator());
+                }
+                writer.flush();
+            });
+        } catch (InvalidFileException e) {
+            isRepaired = false;
+            throw e;
+        }
+    }
+
+    /**
+     * Replays all journal entries, including those waiting to be compacted, onto the given ModuleManager.
+     *
+     * @param moduleManager The Module Manager loaded from the main json file.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    protected void replay(ModuleManager moduleManager) throws InvalidFileException {
+        replay(moduleManager, module -> null);
+    }
+
+    /**
+     * Replays all journal entries, including those waiting to be compacted, onto the given ModuleManager.
+     * Modules that are not in the ModuleManager yet are created with the given loader, which loads the contents that
+     * did not change from their module folder.
+     *
+     * @param moduleManager The Module Manager loaded from the main json file.
+     * @param loaders Creates the loader of a module given its name, or returns null if it has none.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    protected synchronized void replay(ModuleManager moduleManager, Function<String, ContentLoader> loaders)
+            throws InvalidFileException {
+        assert moduleManager != null;
+        repair();
+        replayFile(compactingFilePath, entry -> applyEntry(moduleManager, entry, loaders));
+        replayFile(journalFilePath, entry -> applyEntry(moduleManager, entry, loaders));
+    }
+
+    /**
+     * Cuts off the incomplete last line of each journal file, which is the result of an interrupted append.
+     *
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    private synchronized void repair() throws InvalidFileException {
+        if (isRepaired) {
+            return;
+        }
+        for (Path filePath : new Path[]{compactingFilePath, journalFilePath}) {
+            long removedCount = truncateIncompleteLine(filePath);
+            if (removedCount > 0) {
+                TerminusLogger.warning(String.format("Removed %d bytes of an incomplete journal entry in : %s",
+                        removedCount, filePath));
+            }
+        }
+        isRepaired = true;
+    }
+
+    /**
+     * Replays the entries of a single journal file in order.
+     * Malformed entries are skipped, so that the entries after them are still replayed.
+     *
+     * @param filePath The full path of the journal file.
+     * @param action The action to apply on each entry.
+     * @return The number of malformed entries skipped.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    private int replayFile(Path filePath, Consumer<JournalEntry> action) throws InvalidFileException {
+        if (Files.notExists(filePath)) {
+            return 0;
+        }
+        int skippedCount = 0;
+        try (BufferedReader reader = getBufferedReader(filePath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JournalEntry entry = parseEntry(line);
+                if (entry == null) {
+                    TerminusLogger.warning(String.format("Skipping malformed journal entry in : %s", filePath));
+                    skippedCount++;
+                    continue;
+                }
+                action.accept(entry);
+            }
+        } catch (IOException e) {
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_READ_FILE, filePath));
+        }
+        return skippedCount;
+    }
+
+    private JournalEntry parseEntry(String line) {
+        try {
+            JournalEntry entry = gson.fromJson(line, JournalEntry.class);
+            if (entry == null || entry.getAction() == null || CommonUtils.isStringNullOrEmpty(entry.getModule())) {
+                return null;
+            }
+            return entry;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void applyEntry(ModuleManager moduleManager, JournalEntry entry,
+            Function<String, ContentLoader> loaders) {
+        if (entry.getAction() == StorageActionEnum.DELETE) {
+            moduleManager.removeModule(entry.getModule());
+            return;
+        }
+        NusModule nusModule = moduleManager.getModule(entry.getModule());
+        if (nusModule == null) {
+            nusModule = new NusModule();
+            ContentLoader loader = loaders.apply(entry.getModule());
+            if (loader != null) {
+                nusModule.setLoader(loader);
+            }
+            moduleManager.setModule(entry.getModule(), nusModule);
+        }
+        entry.applyTo(nusModule);
+    }
+
+    /**
+     * Folds all journal entries into the data files of the changed modules and removes them from the journal.
+     * The current journal is first moved aside so that new entries can be appended while compacting. Contents that
+     * did not change are read from the data file of their module.
+     * A journal with malformed entries is not compacted and kept as it is, as the changes in them would be lost.
+     *
+     * @param jsonStorage The JsonStorage of the main json file and module data files.
+     * @throws InvalidFileException when any file I/O operations has error, or the journal has malformed entries.
+     */
+    protected void compact(JsonStorage jsonStorage) throws InvalidFileException {
+        rotate();
+        LinkedHashMap<String, JournalEntry> entries = new LinkedHashMap<>();
+        int skippedCount = replayFile(compactingFilePath,
+                entry -> entries.put(entry.getModule(), entry.combine(entries.get(entry.getModule()))));
+        if (skippedCount > 0) {
+            throw new InvalidFileException(String.format(Messages.ERROR_JOURNAL_CORRUPT, compactingFilePath));
+        }
+        LinkedHashMap<String, NusModule> changes = new LinkedHashMap<>();
+        for (JournalEntry entry : entries.values()) {
+            if (entry.getAction() == StorageActionEnum.DELETE) {
+                changes.put(entry.getModule(), null);
+                continue;
+            }
+            NusModule nusModule = entry.isComplete() ? null : jsonStorage.loadModule(entry.getModule());
+            if (nusModule == null) {
+                nusModule = new NusModule();
+            }
+            entry.applyTo(nusModule);
+            changes.put(entry.getModule(), nusModule);
+        }
+        jsonStorage.saveModules(changes);
+        delete(compactingFilePath);
+        TerminusLogger.info(String.format("Journal compacted into module data files : %s", journalFilePath));
+    }
+
+    /**
+     * Moves the current journal aside for compaction, unless an earlier compaction was left unfinished.
+     *
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    private synchronized void rotate() throws InvalidFileException {
+        repair();
+        if (Files.exists(compactingFilePath) || Files.notExists(journalFilePath)) {
+            return;
+        }
+        try {
+            Files.move(journalFilePath, compactingFilePath);
+        } catch (IOException e) {
+            throw new InvalidFileException(String.format(Messages.ERROR_JOURNAL_COMPACT, journalFilePath));
+        }
+    }
+
+    /**
+     * Returns the total size of the journal files waiting to be compacted.
+     *
+     * @return The size of the journal files in bytes.
+     */
+    public synchronized long getJournalSize() {
+        long size = 0;
+        try {
+            if (Files.exists(journalFilePath)) {
+                size += Files.size(journalFilePath);
+            }
+            if (Files.exists(compactingFilePath)) {
+                size += Files.size(compactingFilePath);
+            }
+        } catch (IOException e) {
+            TerminusLogger.warning(String.format("Unable to get size of journal file : %s", journalFilePath));
+        }
+        return size;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+}
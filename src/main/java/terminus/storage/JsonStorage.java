@@ -1,24 +1,53 @@
 package terminus.storage;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
 import java.io.BufferedReader;
-import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import terminus.common.Messages;
 import terminus.common.TerminusLogger;
+import terminus.content.Link;
+import terminus.content.Question;
 import terminus.exception.InvalidFileException;
 import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+import terminus.storage.adapter.TypeAdapters;
 
 /**
  * JsonStorage class to handle any Json file related operations.
+ * The links and questions of each module are stored in a data file in its module folder, and the main json file is a
+ * manifest listing the modules that have a data file. Data files are written in the configured storage format, and
+ * can be read in either format.
  */
 public class JsonStorage extends Storage {
 
+    /**
+     * Name of the data file of a module, which is stored in the module folder next to its notes.
+     */
+    public static final String MODULE_FILE_NAME = "data.json";
+
+    /**
+     * Name of the field that contained all modules in main json files from before modules had their own data file.
+     */
+    private static final String LEGACY_MODULE_MAP = "moduleMap";
+
     private Path baseDirectory;
     private String jsonFileName;
     private Path jsonFilePath;
     private Gson gson;
+    private BinaryStorage binaryStorage;
+    private StorageFormatEnum storageFormat;
 
     /**
      * Initialise a JsonStorage object that creates a GsonBuilder for Json loading and saving operation.
@@ -29,8 +58,10 @@ public class JsonStorage extends Storage {
     public JsonStorage(Path baseDirectory, String jsonFileName) {
         this.baseDirectory = baseDirectory;
         this.jsonFileName = jsonFileName;
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.gson = TypeAdapters.createGsonBuilder().setPrettyPrinting().create();
         this.jsonFilePath = getAppendPath(baseDirectory, jsonFileName);
+        this.binaryStorage = new BinaryStorage();
+        this.storageFormat = StorageFormatEnum.JSON;
     }
 
     /**
@@ -66,37 +97,258 @@ public class JsonStorage extends Storage {
     }
 
     /**
-     * Loads the content from the json file into Module Manager.
+     * Loads the contents of all modules into Module Manager.
+     * Main json files from before modules had their own data file are loaded as they are.
      *
-     * @return The ModuleManager objects containing the contents from the json file.
+     * @return The ModuleManager objects containing the contents of all modules.
      * @throws InvalidFileException when any file I/O operations has error.
      */
     public ModuleManager loadJson() throws InvalidFileException {
-        BufferedReader reader = getBufferedReader(jsonFilePath);
+        JsonObject root = readJsonFile();
+        if (root != null && root.has(LEGACY_MODULE_MAP)) {
+            return parse(root, ModuleManager.class);
+        }
+        ModuleManager moduleManager = new ModuleManager();
+        for (String module : getManifest(root).getModules()) {
+            NusModule nusModule = loadModule(module);
+            moduleManager.setModule(module, nusModule == null ? new NusModule() : nusModule);
+        }
+        return moduleManager;
+    }
+
+    /**
+     * Loads the names and links of all modules listed in the main json file.
+     * Main json files from before modules had their own data file are first converted, by moving each valid module
+     * into its own data file.
+     *
+     * @return The manifest of module names and links.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public synchronized StorageManifest loadManifest() throws InvalidFileException {
+        JsonObject root = readJsonFile();
+        if (root == null || !root.has(LEGACY_MODULE_MAP)) {
+            return getManifest(root);
+        }
+        TerminusLogger.info(String.format("Moving modules in %s into their own data files.", jsonFileName));
+        ModuleManager moduleManager = parse(root, ModuleManager.class);
         try {
-            ModuleManager moduleManager = gson.fromJson(reader, ModuleManager.class);
-            reader.close();
-            return moduleManager;
+            new FilterManager().filter(moduleManager);
         } catch (Exception e) {
-            try {
-                reader.close();
-            } catch (IOException ex) {
-                throw new InvalidFileException(e.getMessage());
-            }
-            throw new InvalidFileException(String.format(Messages.ERROR_FILE_BUFFERED_READER, jsonFilePath));
+            throw new InvalidFileException(Messages.ERROR_JSON_FILTER);
         }
+        saveJson(moduleManager);
+        return getManifest(readJsonFile());
     }
 
     /**
-     * Saves the contents from ModuleManager back into the json file.
+     * Loads the contents of a single module from its data file.
+     * The data file in the configured storage format is read first, followed by the data file in the other format.
+     *
+     * @param module The name of the module.
+     * @return The NusModule object containing the links and questions of the module, or null if it has no data file.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public NusModule loadModule(String module) throws InvalidFileException {
+        Path binaryFilePath = getModuleFilePath(module, StorageFormatEnum.BINARY);
+        Path moduleFilePath = getModuleFilePath(module, StorageFormatEnum.JSON);
+        boolean hasBinaryFile = Files.exists(binaryFilePath);
+        boolean hasJsonFile = Files.exists(moduleFilePath);
+        if (hasBinaryFile && (storageFormat == StorageFormatEnum.BINARY || !hasJsonFile)) {
+            return binaryStorage.loadModule(binaryFilePath);
+        }
+        if (!hasJsonFile) {
+            return null;
+        }
+        try (BufferedReader reader = getBufferedReader(moduleFilePath)) {
+            return gson.fromJson(reader, NusModule.class);
+        } catch (Exception e) {
+            throw new InvalidFileException(String.format(Messages.ERROR_FILE_BUFFERED_READER, moduleFilePath));
+        }
+    }
+
+    /**
+     * Saves the contents from ModuleManager back into the data files of its modules and lists them in the main json
+     * file. Modules whose links and questions were never loaded are unchanged and not written again, and keep the
+     * links listed for them in the main json file.
      *
      * @param moduleManager The Module Manager containing all item information used in TermiNUS.
      * @throws InvalidFileException when any file I/O operations has error.
      */
-    protected void saveJson(ModuleManager moduleManager) throws InvalidFileException {
+    protected synchronized void saveJson(ModuleManager moduleManager) throws InvalidFileException {
         assert moduleManager != null;
-        String jsonString = gson.toJson(moduleManager);
-        writeFile(jsonFilePath, jsonString);
+        JsonObject root = Files.exists(jsonFilePath) ? readJsonFile() : null;
+        Map<String, List<Link>> savedSchedules = getManifest(root).getSchedules();
+        LinkedHashMap<String, NusModule> modules = new LinkedHashMap<>();
+        HashMap<String, List<Link>> schedules = new HashMap<>();
+        for (String module : moduleManager.getAllModules()) {
+            NusModule nusModule = moduleManager.getModule(module);
+            if (nusModule == null) {
+                continue;
+            }
+            if (nusModule.isLoaded(Link.class) || nusModule.isLoaded(Question.class)) {
+                nusModule.load();
+                modules.put(module, nusModule);
+                schedules.put(module, getSchedule(nusModule));
+            } else if (savedSchedules.containsKey(module)) {
+                schedules.put(module, savedSchedules.get(module));
+            }
+        }
+        saveModuleFiles(modules, true);
+        saveManifest(new LinkedHashSet<>(List.of(moduleManager.getAllModules())), schedules);
+    }
+
+    /**
+     * Saves the given changes into the data files of the changed modules only, and updates the main json file.
+     * Module folders are not created, as they are only created, renamed and deleted on the main thread. A changed
+     * module whose folder no longer exists was deleted or renamed since, so it is not written and no longer listed.
+     *
+     * @param changes The latest contents of each changed module, keyed by module name. Null if it was deleted.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    protected synchronized void saveModules(Map<String, NusModule> changes) throws InvalidFileException {
+        StorageManifest manifest = loadManifest();
+        LinkedHashSet<String> modules = new LinkedHashSet<>(manifest.getModules());
+        HashMap<String, List<Link>> schedules = new HashMap<>(manifest.getSchedules());
+        LinkedHashMap<String, NusModule> moduleFiles = new LinkedHashMap<>();
+        for (Map.Entry<String, NusModule> change : changes.entrySet()) {
+            String module = change.getKey();
+            if (change.getValue() == null) {
+                modules.remove(module);
+                moduleFiles.put(module, null);
+            } else if (Files.isDirectory(getAppendPath(baseDirectory, module))) {
+                modules.add(module);
+                schedules.put(module, getSchedule(change.getValue()));
+                moduleFiles.put(module, change.getValue());
+            } else {
+                TerminusLogger.info(String.format("Skipping module %s as its folder no longer exists.", module));
+                modules.remove(module);
+            }
+        }
+        saveModuleFiles(moduleFiles, false);
+        saveManifest(modules, schedules);
+    }
+
+    /**
+     * Writes or deletes the data files of the given modules in parallel.
+     *
+     * @param modules The contents of each module, keyed by module name. Null if its data file is to be deleted.
+     * @param canCreateFolders Whether module folders that do not exist are created.
+     * @throws InvalidFileException when any of the data files cannot be written.
+     */
+    private void saveModuleFiles(Map<String, NusModule> modules, boolean canCreateFolders)
+            throws InvalidFileException {
+        List<String> failedModules = modules.entrySet().parallelStream()
+                .filter(module -> !saveModuleFile(module.getKey(), module.getValue(), canCreateFolders))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        if (!failedModules.isEmpty()) {
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_FILE, failedModules));
+        }
+    }
+
+    private boolean saveModuleFile(String module, NusModule nusModule, boolean canCreateFolder) {
+        Path moduleFilePath = getModuleFilePath(module, storageFormat);
+        Path otherFilePath = getModuleFilePath(module, storageFormat == StorageFormatEnum.BINARY
+                ? StorageFormatEnum.JSON : StorageFormatEnum.BINARY);
+        try {
+            if (nusModule != null && canCreateFolder) {
+                createFolder(moduleFilePath.getParent());
+            }
+            if (nusModule == null) {
+                delete(moduleFilePath);
+            } else if (storageFormat == StorageFormatEnum.BINARY) {
+                binaryStorage.saveModule(moduleFilePath, nusModule);
+            } else {
+                writeJson(moduleFilePath, nusModule);
+            }
+            delete(otherFilePath);
+            return true;
+        } catch (InvalidFileException e) {
+            TerminusLogger.warning(e.getMessage());
+            return false;
+        }
+    }
+
+    private void saveManifest(LinkedHashSet<String> modules, HashMap<String, List<Link>> schedules)
+            throws InvalidFileException {
+        schedules.keySet().retainAll(modules);
+        writeJson(jsonFilePath, new StorageManifest(modules, schedules));
+    }
+
+    private List<Link> getSchedule(NusModule nusModule) {
+        return new ArrayList<>(nusModule.getContentManager(Link.class).getContents());
+    }
+
+    /**
+     * Streams the json of the given object into the given file, without building the whole json string first.
+     *
+     * @param filePath The full path of the json file.
+     * @param data The object to be written.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    private void writeJson(Path filePath, Object data) throws InvalidFileException {
+        writeStream(filePath, output -> {
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            gson.toJson(data, writer);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Reads the main json file.
+     *
+     * @return The root json object of the main json file, or null if it is empty.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    private JsonObject readJsonFile() throws InvalidFileException {
+        try (BufferedReader reader = getBufferedReader(jsonFilePath)) {
+            return gson.fromJson(reader, JsonObject.class);
+        } catch (InvalidFileException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvalidFileException(String.format(Messages.ERROR_FILE_BUFFERED_READER, jsonFilePath));
+        }
+    }
+
+    private StorageManifest getManifest(JsonObject root) throws InvalidFileException {
+        if (root == null) {
+            return new StorageManifest(List.of(), Map.of());
+        }
+        return parse(root, StorageManifest.class);
+    }
+
+    private <T> T parse(JsonObject root, Class<T> type) throws InvalidFileException {
+        try {
+            return gson.fromJson(root, type);
+        } catch (Exception e) {
+            throw new InvalidFileException(String.format(Messages.ERROR_FILE_BUFFERED_READER, jsonFilePath));
+        }
+    }
+
+    private Path getModuleFilePath(String module, StorageFormatEnum format) {
+        String fileName = format == StorageFormatEnum.BINARY ? BinaryStorage.MODULE_FILE_NAME : MODULE_FILE_NAME;
+        return getAppendPath(getAppendPath(baseDirectory, module), fileName);
+    }
+
+    /**
+     * Sets the format that data files are written in. Data files in the other format are replaced as their modules
+     * are saved.
+     *
+     * @param storageFormat The storage format of the data files.
+     */
+    public void setStorageFormat(StorageFormatEnum storageFormat) {
+        assert storageFormat != null;
+        this.storageFormat = storageFormat;
+    }
+
+    public StorageFormatEnum getStorageFormat() {
+        return storageFormat;
+    }
+
+    @Override
+    public void setFsyncPolicy(FsyncPolicyEnum fsyncPolicy) {
+        super.setFsyncPolicy(fsyncPolicy);
+        binaryStorage.setFsyncPolicy(fsyncPolicy);
     }
 
     /**
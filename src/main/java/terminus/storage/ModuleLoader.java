@@ -0,0 +1,179 @@
+package terminus.storage;
+
+import java.util.List;
+import java.util.concurrent.Future;
+import terminus.common.TerminusLogger;
+import terminus.content.Content;
+import terminus.content.ContentManager;
+import terminus.content.Link;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.module.ContentLoader;
+import terminus.module.NusModule;
+
+/**
+ * ModuleLoader class to load the contents of a module from storage when they are first used.
+ * Links and questions are read from the data file of the module, and notes from the module folder.
+ */
+public class ModuleLoader implements ContentLoader {
+
+    private String module;
+    private final JsonStorage jsonStorage;
+    private final NoteStorage noteStorage;
+    private final FilterManager filterManager;
+
+    /**
+     * Notes of the module being loaded in the background, or null if they are loaded on first use.
+     */
+    private Future<ContentManager<Note>> pendingNotes;
+
+    /**
+     * Links of the module listed in the main json file, or null if they are not listed.
+     */
+    private List<Link> schedule;
+
+    /**
+     * Contents read from the data file of the module, or null if it has not been read or all of its contents have
+     * been copied out.
+     */
+    private NusModule stored;
+    private boolean isRead;
+    private boolean isLinkCopied;
+    private boolean isQuestionCopied;
+
+    /**
+     * Creates a ModuleLoader object for the given module.
+     *
+     * @param module The name of the module folder.
+     * @param jsonStorage The JsonStorage of the module data files, or null if the links and questions are loaded.
+     * @param noteStorage The NoteStorage that notes are loaded from.
+     */
+    public ModuleLoader(String module, JsonStorage jsonStorage, NoteStorage noteStorage) {
+        this.module = module;
+        this.jsonStorage = jsonStorage;
+        this.noteStorage = noteStorage;
+        this.filterManager = new FilterManager();
+    }
+
+    /**
+     * Loads the contents of the given class type into the given ContentManager.
+     * The ContentManager holds contents of the given class type, so it is safe to cast it to a ContentManager of the
+     * class type it was compared with.
+     *
+     * @param type Content class type.
+     * @param contentManager The ContentManager to load the contents into.
+     * @param <T> Content object type.
+     */
+    @Override
+    public <T extends Content> void load(Class<T> type, ContentManager<T> contentManager) {
+        if (type == Note.class) {
+            @SuppressWarnings("unchecked")
+            ContentManager<Note> noteContentManager = (ContentManager<Note>) contentManager;
+            loadNotes(noteContentManager);
+            return;
+        }
+        NusModule storedModule = readModuleFile();
+        if (type == Link.class) {
+            @SuppressWarnings("unchecked")
+            ContentManager<Link> linkContentManager = (ContentManager<Link>) contentManager;
+            if (storedModule != null) {
+                copyContents(storedModule.getContentManager(Link.class), linkContentManager);
+            }
+            filterManager.filterLink(linkContentManager);
+            schedule = null;
+            isLinkCopied = true;
+        } else if (type == Question.class) {
+            @SuppressWarnings("unchecked")
+            ContentManager<Question> questionContentManager = (ContentManager<Question>) contentManager;
+            if (storedModule != null) {
+                copyContents(storedModule.getContentManager(Question.class), questionContentManager);
+            }
+            filterManager.filterQuestion(questionContentManager);
+            isQuestionCopied = true;
+        }
+        if (isLinkCopied && isQuestionCopied) {
+            stored = null;
+        }
+    }
+
+    /**
+     * Sets the notes of the module that are being loaded in the background, to be used instead of reading the
+     * module folder on first use.
+     *
+     * @param pendingNotes The notes being loaded in the background.
+     */
+    public void setPendingNotes(Future<ContentManager<Note>> pendingNotes) {
+        this.pendingNotes = pendingNotes;
+    }
+
+    /**
+     * Sets the links of the module listed in the main json file, to be used for listing schedules until the links
+     * are loaded.
+     *
+     * @param schedule The links listed in the main json file, or null if they are not listed.
+     */
+    public void setSchedule(List<Link> schedule) {
+        this.schedule = schedule;
+    }
+
+    @Override
+    public List<Link> getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Sets the name of the module folder that contents not loaded yet are read from, after the module is renamed.
+     * Notes being loaded in the background are dropped, as they have the paths of the old module folder.
+     *
+     * @param moduleName The new name of the module folder.
+     */
+    @Override
+    public void rename(String moduleName) {
+        if (module.equals(moduleName)) {
+            return;
+        }
+        module = moduleName;
+        pendingNotes = null;
+    }
+
+    private void loadNotes(ContentManager<Note> contentManager) {
+        try {
+            if (pendingNotes == null) {
+                noteStorage.loadNotes(module, contentManager);
+            } else {
+                contentManager.setContent(pendingNotes.get().getContents());
+                noteStorage.savePendingManifest(module);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            TerminusLogger.warning(String.format("Some notes in module %s cannot be loaded.", module));
+        } catch (Exception e) {
+            TerminusLogger.warning(String.format("Some notes in module %s cannot be loaded.", module));
+        }
+        pendingNotes = null;
+    }
+
+    /**
+     * Reads the data file of the module on first use.
+     *
+     * @return The contents of the data file, or null if there is none or it cannot be read.
+     */
+    private NusModule readModuleFile() {
+        if (isRead || jsonStorage == null) {
+            return stored;
+        }
+        isRead = true;
+        try {
+            stored = jsonStorage.loadModule(module);
+        } catch (Exception e) {
+            TerminusLogger.warning(String.format("Some contents in module %s cannot be loaded.", module));
+        }
+        return stored;
+    }
+
+    private <T extends Content> void copyContents(ContentManager<T> source, ContentManager<T> target) {
+        if (source != null && source.getContents() != null) {
+            target.setContent(source.getContents());
+        }
+    }
+}
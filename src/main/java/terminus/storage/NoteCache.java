@@ -0,0 +1,99 @@
+package terminus.storage;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * NoteCache class to keep the data of the most recently used note files in memory, up to a total number of
+ * characters. The least recently used data is evicted first.
+ */
+public class NoteCache {
+
+    private final long capacity;
+    private final LinkedHashMap<Path, CachedNote> entries;
+    private long totalSize;
+
+    /**
+     * Creates a NoteCache object.
+     *
+     * @param capacity The maximum total number of characters of the cached data.
+     */
+    public NoteCache(long capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached data of the given note file, if the file is unchanged since it was cached.
+     *
+     * @param filePath The full path of the note file.
+     * @param lastModified The current last modified time of the file.
+     * @param size The current size of the file in bytes.
+     * @return The cached data, or null if it is not cached or the file has changed.
+     */
+    public synchronized String get(Path filePath, long lastModified, long size) {
+        CachedNote cachedNote = entries.get(filePath);
+        if (cachedNote == null) {
+            return null;
+        }
+        if (cachedNote.lastModified != lastModified || cachedNote.size != size) {
+            remove(filePath);
+            return null;
+        }
+        return cachedNote.data;
+    }
+
+    /**
+     * Caches the data of the given note file, evicting the least recently used data if the cache is full.
+     * Data larger than the whole cache is not cached.
+     *
+     * @param filePath The full path of the note file.
+     * @param data The data read from the file.
+     * @param lastModified The last modified time of the file when it was read.
+     * @param size The size of the file in bytes when it was read.
+     */
+    public synchronized void put(Path filePath, String data, long lastModified, long size) {
+        remove(filePath);
+        if (data.length() > capacity) {
+            return;
+        }
+        entries.put(filePath, new CachedNote(data, lastModified, size));
+        totalSize += data.length();
+        Iterator<Map.Entry<Path, CachedNote>> iterator = entries.entrySet().iterator();
+        while (totalSize > capacity && iterator.hasNext()) {
+            totalSize -= iterator.next().getValue().data.length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes the cached data of the given note file.
+     *
+     * @param filePath The full path of the note file.
+     */
+    public synchronized void remove(Path filePath) {
+        CachedNote cachedNote = entries.remove(filePath);
+        if (cachedNote != null) {
+            totalSize -= cachedNote.data.length();
+        }
+    }
+
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    private static class CachedNote {
+
+        private final String data;
+        private final long lastModified;
+        private final long size;
+
+        private CachedNote(String data, long lastModified, long size) {
+            this.data = data;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+}
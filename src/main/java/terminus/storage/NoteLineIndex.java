@@ -0,0 +1,164 @@
+package terminus.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * NoteLineIndex class to read ranges of lines from a note file without reading the whole file into memory.
+ * The file is memory-mapped, and the offset of every {@value #INDEX_INTERVAL}th line is recorded once when the index
+ * is built, so that a range of lines is found by scanning at most that many lines.
+ */
+public class NoteLineIndex {
+
+    /**
+     * Number of lines between two recorded line offsets.
+     */
+    private static final int INDEX_INTERVAL = 64;
+
+    /**
+     * Maximum number of bytes of the file mapped at the same time.
+     */
+    private static final long MAP_CHUNK_SIZE = 64L * 1024 * 1024;
+    private static final byte NEW_LINE = '\n';
+
+    private final Path filePath;
+    private final long lastModified;
+    private final long size;
+    private final int lineCount;
+
+    /**
+     * Offsets of the first byte of lines 1, 1 + INDEX_INTERVAL, 1 + 2 * INDEX_INTERVAL and so on.
+     */
+    private final long[] lineOffsets;
+
+    private NoteLineIndex(Path filePath, long lastModified, long size, int lineCount, long[] lineOffsets) {
+        this.filePath = filePath;
+        this.lastModified = lastModified;
+        this.size = size;
+        this.lineCount = lineCount;
+        this.lineOffsets = lineOffsets;
+    }
+
+    /**
+     * Builds the line index of the given note file by scanning it once.
+     *
+     * @param filePath The full path of the note file.
+     * @return The line index of the file.
+     * @throws IOException when the file cannot be read.
+     */
+    public static NoteLineIndex build(Path filePath) throws IOException {
+        long lastModified = filePath.toFile().lastModified();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] lineOffsets = new long[16];
+            int offsetCount = 0;
+            long newLineCount = 0;
+            byte lastByte = NEW_LINE;
+            if (size > 0) {
+                lineOffsets[offsetCount++] = 0;
+            }
+            for (long start = 0; start < size; start += MAP_CHUNK_SIZE) {
+                int length = (int) Math.min(MAP_CHUNK_SIZE, size - start);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                for (int i = 0; i < length; i++) {
+                    lastByte = buffer.get(i);
+                    if (lastByte != NEW_LINE || ++newLineCount % INDEX_INTERVAL != 0) {
+                        continue;
+                    }
+                    if (offsetCount == lineOffsets.length) {
+                        lineOffsets = Arrays.copyOf(lineOffsets, offsetCount * 2);
+                    }
+                    lineOffsets[offsetCount++] = start + i + 1;
+                }
+            }
+            // The last line does not need to end with a new line
+            long lineCount = newLineCount + (lastByte == NEW_LINE ? 0 : 1);
+            if (lineCount > Integer.MAX_VALUE) {
+                throw new IOException(String.format("Too many lines in %s.", filePath));
+            }
+            return new NoteLineIndex(filePath, lastModified, size, (int) lineCount,
+                    Arrays.copyOf(lineOffsets, offsetCount));
+        }
+    }
+
+    /**
+     * Returns true if the file has not changed since the index was built.
+     *
+     * @param file The note file of the index.
+     * @return True if the index can still be used, false otherwise.
+     */
+    public boolean isCurrent(File file) {
+        return file.lastModified() == lastModified && file.length() == size;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Reads the given range of lines from the file, without the new line at the end of each line.
+     *
+     * @param firstLine The number of the first line to be read, starting from 1.
+     * @param lastLine The number of the last line to be read, which is at most the number of lines in the file.
+     * @return The lines joined by new lines.
+     * @throws IOException when the file cannot be read.
+     */
+    public String readLines(int firstLine, int lastLine) throws IOException {
+        assert firstLine >= 1 && firstLine <= lastLine && lastLine <= lineCount;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long start = findLineOffset(channel, firstLine);
+            long end = lastLine == lineCount ? size : findLineOffset(channel, lastLine + 1);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException(String.format("Too many lines requested from %s.", filePath));
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            String lines = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(buffer)
+                    .toString();
+            return stripLastNewLine(lines).replace("\r\n", "\n");
+        }
+    }
+
+    /**
+     * Finds the offset of the first byte of the given line, starting from the nearest recorded line before it.
+     */
+    private long findLineOffset(FileChannel channel, int line) throws IOException {
+        long offset = lineOffsets[(line - 1) / INDEX_INTERVAL];
+        int linesToSkip = (line - 1) % INDEX_INTERVAL;
+        while (linesToSkip > 0) {
+            int length = (int) Math.min(MAP_CHUNK_SIZE, size - offset);
+            if (length <= 0) {
+                throw new IOException(String.format("Line %d not found in %s.", line, filePath));
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            int i = 0;
+            while (i < length && linesToSkip > 0) {
+                if (buffer.get(i++) == NEW_LINE) {
+                    linesToSkip--;
+                }
+            }
+            offset += i;
+        }
+        return offset;
+    }
+
+    private static String stripLastNewLine(String lines) {
+        if (lines.endsWith("\r\n")) {
+            return lines.substring(0, lines.length() - 2);
+        }
+        if (lines.endsWith("\n")) {
+            return lines.substring(0, lines.length() - 1);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,80 @@
+package terminus.storage;
+
+import java.io.File;
+import java.util.HashMap;
+
+/**
+ * NoteManifest class to represent the manifest of a module folder, which records the files in it as they were when
+ * their notes were last loaded. Files whose size and last modified time are unchanged are not checked again.
+ * No hash of the file is recorded: any write to a file updates its last modified time, so a hash would only tell apart
+ * files that were rewritten with the same bytes, and computing it would read every file in full, which is the cost the
+ * manifest avoids. A file whose time changed is only probed again, so treating such a file as changed is cheap.
+ */
+public class NoteManifest {
+
+    private HashMap<String, FileEntry> files;
+
+    /**
+     * Creates an empty NoteManifest object.
+     */
+    public NoteManifest() {
+        this.files = new HashMap<>();
+    }
+
+    /**
+     * Returns the entry of the given file if the file is unchanged since the entry was recorded.
+     *
+     * @param file The file in the module folder.
+     * @return The entry of the file, or null if it is not recorded or has changed.
+     */
+    public FileEntry getUnchangedEntry(File file) {
+        if (files == null) {
+            return null;
+        }
+        FileEntry entry = files.get(file.getName());
+        if (entry == null || entry.size != file.length() || entry.lastModified != file.lastModified()) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Records the given entry for the file with the given name.
+     *
+     * @param fileName The name of the file in the module folder.
+     * @param entry The entry of the file.
+     */
+    public void put(String fileName, FileEntry entry) {
+        files.put(fileName, entry);
+    }
+
+    public int getSize() {
+        return files == null ? 0 : files.size();
+    }
+
+    /**
+     * FileEntry class to represent a single file recorded in the manifest.
+     */
+    public static class FileEntry {
+
+        private long size;
+        private long lastModified;
+        private boolean isTextFile;
+
+        /**
+         * Creates a FileEntry object for the given file.
+         *
+         * @param file The file in the module folder.
+         * @param isTextFile Whether the file is a text file.
+         */
+        public FileEntry(File file, boolean isTextFile) {
+            this.size = file.length();
+            this.lastModified = file.lastModified();
+            this.isTextFile = isTextFile;
+        }
+
+        public boolean isTextFile() {
+            return isTextFile;
+        }
+    }
+}
@@ -1,28 +1,93 @@
 package terminus.storage;
 
+import com.google.gson.Gson;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import terminus.common.CommonFormat;
 import terminus.common.CommonUtils;
 import terminus.common.Messages;
 import terminus.common.TerminusLogger;
 import terminus.content.ContentManager;
 import terminus.content.Note;
+import terminus.content.NoteDataLoader;
 import terminus.exception.InvalidFileException;
 import terminus.module.ModuleManager;
+import terminus.module.NusModule;
 
 /**
  * NoteStorage class to handle any note related file operations.
+ * Notes are loaded without their data, which is read from the note file when it is used and kept in a bounded cache.
+ * Note files larger than {@link CommonFormat#MAX_FILE_SIZE} are displayed by ranges of lines, which are read through
+ * a line index of the file instead of reading the whole file.
  */
-public class NoteStorage extends Storage {
+public class NoteStorage extends Storage implements NoteDataLoader {
 
     private Path baseDirectory;
+    private Gson gson;
+
+    /**
+     * Updated note manifests of modules loaded in the background, which are yet to be saved.
+     */
+    private ConcurrentHashMap<String, NoteManifest> pendingManifests;
+    private NoteCache noteCache;
+    private TextFileDetector textFileDetector;
+    private Map<Path, NoteLineIndex> lineIndexes;
     private static final String FILE_EXTENSION = ".txt";
-    public static final String CONTENT_TYPE = "text/plain";
+
+    /**
+     * Name of the note manifest in each module folder.
+     */
+    public static final String MANIFEST_FILE_NAME = "notes.json";
+
+    /**
+     * Files that TermiNUS writes into module folders besides notes, whose changes are not changes of notes.
+     */
+    private static final List<String> DATA_FILE_NAMES = List.of(MANIFEST_FILE_NAME, JsonStorage.MODULE_FILE_NAME,
+            BinaryStorage.MODULE_FILE_NAME);
+
+    /**
+     * Maximum number of module folders whose notes are loaded at the same time in the background.
+     */
+    private static final int LOADER_THREAD_COUNT = 4;
+    private static final String LOADER_THREAD_NAME = "terminus-note-loader";
+
+    /**
+     * Maximum total number of characters of note data kept in memory.
+     */
+    private static final long CACHE_CAPACITY = 4 * 1024 * 1024;
+
+    /**
+     * Maximum number of line indexes of large note files kept in memory.
+     */
+    private static final int LINE_INDEX_CAPACITY = 16;
 
     public NoteStorage(Path baseDirectory) {
         this.baseDirectory = baseDirectory;
+        this.gson = new Gson();
+        this.pendingManifests = new ConcurrentHashMap<>();
+        this.noteCache = new NoteCache(CACHE_CAPACITY);
+        this.textFileDetector = new TextFileDetector();
+        this.lineIndexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, NoteLineIndex> eldest) {
+                return size() > LINE_INDEX_CAPACITY;
+            }
+        });
     }
 
     /**
@@ -65,10 +130,12 @@ public class NoteStorage extends Storage {
         createFolder(baseDirectory);
         Path moduleFolder = getAppendPath(baseDirectory, module);
         createFolder(moduleFolder);
-        ArrayList<Note> noteArrayList = moduleManager.getModule(module).getContentManager(Note.class).getContents();
+        List<Note> noteArrayList = moduleManager.getModule(module).getContentManager(Note.class).getContents();
         Note note = noteArrayList.get(noteArrayList.size() - 1);
         Path noteFilePath = getAppendPath(moduleFolder, appendFileExtension(note.getName()));
+        forget(noteFilePath);
         writeFile(noteFilePath, note.getData());
+        note.clearModified();
     }
 
     /**
@@ -84,6 +151,7 @@ public class NoteStorage extends Storage {
         if (Files.isDirectory(noteFilePath)) {
             throw new InvalidFileException(String.format(Messages.ERROR_FILE_FOLDER_MISMATCH, noteFilePath));
         }
+        forget(noteFilePath);
         delete(noteFilePath);
     }
 
@@ -95,51 +163,398 @@ public class NoteStorage extends Storage {
      * @throws InvalidFileException when any file I/O operations has error.
      */
     protected void loadNoteIntoModuleManager(ModuleManager moduleManager, String module) throws InvalidFileException {
+        loadNotes(module, moduleManager.getModule(module).getContentManager(Note.class));
+    }
+
+    /**
+     * Loads all notes from the given module folder into the given ContentManager, without reading their data.
+     * Files recorded in the note manifest of the folder and unchanged since are not probed again, and the manifest is
+     * updated if any file has changed. Notes already in the ContentManager keep their position if their file still
+     * exists, notes whose file was removed are dropped, and notes of new files are added at the end.
+     *
+     * @param module The folder name where the all note files in it should be loaded from.
+     * @param contentManager The content manager of Note.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    protected void loadNotes(String module, ContentManager<Note> contentManager) throws InvalidFileException {
+        NoteManifest updatedManifest = readNotes(module, contentManager);
+        if (updatedManifest != null) {
+            saveManifest(module, updatedManifest);
+        }
+    }
+
+    /**
+     * Reads all notes from the given module folder into the given ContentManager without writing any file.
+     * Only files that are new or changed since the note manifest was recorded are probed.
+     *
+     * @param module The folder name where the all note files in it should be loaded from.
+     * @param contentManager The content manager of Note.
+     * @return The updated note manifest of the folder, or null if it is unchanged.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    private NoteManifest readNotes(String module, ContentManager<Note> contentManager) throws InvalidFileException {
         Path moduleFolder = getAppendPath(baseDirectory, module);
         File[] listOfNoteFiles = getListOfFiles(moduleFolder);
-        ContentManager<Note> contentManager = moduleManager.getModule(module).getContentManager(Note.class);
-        contentManager.purgeData();
+        Path manifestPath = getAppendPath(moduleFolder, MANIFEST_FILE_NAME);
+        NoteManifest manifest = loadManifest(manifestPath);
+        NoteManifest updatedManifest = new NoteManifest();
+        boolean isManifestChanged = false;
+        LinkedHashMap<String, Note> scannedNotes = new LinkedHashMap<>();
         for (File file : listOfNoteFiles) {
-            if (isValidNote(file, contentManager)) {
-                addAndFilterNote(file, contentManager);
+            if (file.getName().equals(MANIFEST_FILE_NAME)) {
+                continue;
+            }
+            NoteManifest.FileEntry entry = manifest.getUnchangedEntry(file);
+            if (entry == null) {
+                forget(file.toPath());
             }
+            boolean isTextFile = entry == null ? isValidTextFile(file) : entry.isTextFile();
+            if (isTextFile && isValidNote(file, scannedNotes)) {
+                Note note = createNote(file);
+                scannedNotes.put(getNoteKey(note.getName()), note);
+            }
+            updatedManifest.put(file.getName(), new NoteManifest.FileEntry(file, isTextFile));
+            isManifestChanged |= entry == null;
+        }
+        mergeNotes(contentManager, scannedNotes);
+        if (isManifestChanged || updatedManifest.getSize() != manifest.getSize()) {
+            return updatedManifest;
         }
+        return null;
     }
 
     /**
-     * Filters the given file before adding to ContentManager.
+     * Merges the notes read from a module folder into the given ContentManager, keeping the order of the notes that
+     * are still in the folder so that their indexes do not change. Existing notes backed by the same file are kept
+     * as they are.
      *
-     * @param file The given file to be checked and added to ContentManager.
      * @param contentManager The content manager of Note.
+     * @param scannedNotes The notes of the files in the module folder, keyed by their lower case name.
      */
-    private void addAndFilterNote(File file, ContentManager<Note> contentManager) {
-        try {
-            String data = readFile(file.toPath());
-            if (data != null) {
-                String noteName = CommonUtils.getFileNameOnly(file.getName());
-                Note newNote = new Note(noteName, data);
-                contentManager.add(newNote);
+    private void mergeNotes(ContentManager<Note> contentManager, LinkedHashMap<String, Note> scannedNotes) {
+        ArrayList<Note> mergedNotes = new ArrayList<>(scannedNotes.size());
+        for (Note note : contentManager.getContents()) {
+            Note scannedNote = scannedNotes.remove(getNoteKey(note.getName()));
+            if (scannedNote == null) {
+                // The note file was removed
+                continue;
             }
+            boolean isSameFile = scannedNote.getFilePath().equals(note.getFilePath());
+            mergedNotes.add(isSameFile ? note : scannedNote);
+        }
+        mergedNotes.addAll(scannedNotes.values());
+        contentManager.setContent(mergedNotes);
+    }
+
+    private static String getNoteKey(String noteName) {
+        return noteName.toLowerCase(Locale.ROOT);
+    }
+
+    private NoteManifest loadManifest(Path manifestPath) {
+        if (Files.notExists(manifestPath)) {
+            return new NoteManifest();
+        }
+        try (BufferedReader reader = getBufferedReader(manifestPath)) {
+            NoteManifest manifest = gson.fromJson(reader, NoteManifest.class);
+            return manifest == null ? new NoteManifest() : manifest;
         } catch (Exception e) {
-            // Ignore all exception and skip the file
+            TerminusLogger.warning(String.format(Messages.ERROR_FILE_BUFFERED_READER, manifestPath));
+            return new NoteManifest();
+        }
+    }
+
+    private void saveManifest(String module, NoteManifest manifest) {
+        Path manifestPath = getAppendPath(getAppendPath(baseDirectory, module), MANIFEST_FILE_NAME);
+        try {
+            writeFile(manifestPath, gson.toJson(manifest));
+        } catch (InvalidFileException e) {
+            // Notes are still loaded, and all files are checked again on the next load
+            TerminusLogger.warning(e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the note manifest of the given module that was updated by loading its notes in the background.
+     * Manifests are not written by the background tasks, so that the module folders are only changed by the command
+     * loop.
+     *
+     * @param module The folder name where the notes were loaded from.
+     */
+    protected void savePendingManifest(String module) {
+        NoteManifest manifest = pendingManifests.remove(module);
+        if (manifest != null) {
+            saveManifest(module, manifest);
+        }
+    }
+
+    /**
+     * Starts loading the notes of the given modules in the background, with one task for each module folder.
+     * A module folder that cannot be loaded only fails its own task.
+     *
+     * @param modules The folder names where the note files should be loaded from.
+     * @return The pending notes of each module, keyed by module name.
+     */
+    protected HashMap<String, Future<ContentManager<Note>>> loadNotesInBackground(Collection<String> modules) {
+        HashMap<String, Future<ContentManager<Note>>> pendingNotes = new HashMap<>();
+        if (modules.isEmpty()) {
+            return pendingNotes;
         }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(LOADER_THREAD_COUNT, modules.size()),
+            runnable -> {
+                Thread thread = new Thread(runnable, LOADER_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+        for (String module : modules) {
+            pendingNotes.put(module, executor.submit(() -> {
+                ContentManager<Note> contentManager = new ContentManager<>();
+                NoteManifest updatedManifest = readNotes(module, contentManager);
+                if (updatedManifest != null) {
+                    pendingManifests.put(module, updatedManifest);
+                }
+                return contentManager;
+            }));
+        }
+        // Threads exit once all submitted modules are loaded
+        executor.shutdown();
+        return pendingNotes;
     }
 
     /**
-     * Checks the validity of the given file.
+     * Creates the note in the given file, without reading its data.
+     *
+     * @param file The note file.
+     * @return The note backed by the file.
+     */
+    private Note createNote(File file) {
+        String noteName = CommonUtils.getFileNameOnly(file.getName());
+        return new Note(noteName, file.toPath(), this);
+    }
+
+    /**
+     * Returns the data of the given note file, from the cache if the file is unchanged since it was last read.
+     * A file that cannot be read has no data.
+     *
+     * @param filePath The full path of the note file.
+     * @return The data of the note.
+     */
+    @Override
+    public String load(Path filePath) {
+        File file = filePath.toFile();
+        long lastModified = file.lastModified();
+        long size = file.length();
+        String data = noteCache.get(filePath, lastModified, size);
+        if (data != null) {
+            return data;
+        }
+        try {
+            data = readFile(filePath);
+        } catch (InvalidFileException e) {
+            TerminusLogger.warning(e.getMessage());
+            return "";
+        }
+        noteCache.put(filePath, data, lastModified, size);
+        return data;
+    }
+
+    @Override
+    public boolean isLarge(Path filePath) {
+        return filePath.toFile().length() > CommonFormat.MAX_FILE_SIZE;
+    }
+
+    /**
+     * Returns the number of lines in the given note file. A file that cannot be read has no lines.
+     *
+     * @param filePath The full path of the note file.
+     * @return The number of lines of the note.
+     */
+    @Override
+    public int getLineCount(Path filePath) {
+        NoteLineIndex lineIndex = getLineIndex(filePath);
+        return lineIndex == null ? 0 : lineIndex.getLineCount();
+    }
+
+    /**
+     * Returns the given range of lines of the note file, reading only those lines from the file.
+     * A file that cannot be read has no data.
+     *
+     * @param filePath The full path of the note file.
+     * @param firstLine The number of the first line, starting from 1.
+     * @param lastLine The number of the last line, which is at most the number of lines in the file.
+     * @return The lines of the note joined by new lines.
+     */
+    @Override
+    public String loadLines(Path filePath, int firstLine, int lastLine) {
+        NoteLineIndex lineIndex = getLineIndex(filePath);
+        if (lineIndex == null || lastLine > lineIndex.getLineCount()) {
+            return "";
+        }
+        try {
+            return lineIndex.readLines(firstLine, lastLine);
+        } catch (IOException e) {
+            TerminusLogger.warning(String.format(Messages.ERROR_FILE_BUFFERED_READER, filePath));
+            return "";
+        }
+    }
+
+    /**
+     * Returns the line index of the given note file, which is built again if the file has changed since.
+     *
+     * @param filePath The full path of the note file.
+     * @return The line index of the file, or null if the file cannot be read.
+     */
+    private NoteLineIndex getLineIndex(Path filePath) {
+        NoteLineIndex lineIndex = lineIndexes.get(filePath);
+        if (lineIndex != null && lineIndex.isCurrent(filePath.toFile())) {
+            return lineIndex;
+        }
+        try {
+            lineIndex = NoteLineIndex.build(filePath);
+        } catch (IOException e) {
+            TerminusLogger.warning(String.format(Messages.ERROR_FILE_BUFFERED_READER, filePath));
+            lineIndexes.remove(filePath);
+            return null;
+        }
+        lineIndexes.put(filePath, lineIndex);
+        return lineIndex;
+    }
+
+    /**
+     * Removes the cached data, line index and text file check of the given note file, before it is changed or moved.
+     *
+     * @param filePath The full path of the note file.
+     */
+    private void forget(Path filePath) {
+        noteCache.remove(filePath);
+        lineIndexes.remove(filePath);
+        textFileDetector.forget(filePath);
+    }
+
+    /**
+     * Removes the cached text file checks of all files in the given module folder, after it was deleted or renamed.
+     *
+     * @param module The folder name of the module.
+     */
+    protected void forgetModule(String module) {
+        textFileDetector.forgetFolder(getAppendPath(baseDirectory, module));
+    }
+
+    /**
+     * Points the notes of the given module at their files in its module folder, after the folder was renamed.
+     *
+     * @param moduleManager The Module Manager containing all item information used in TermiNUS.
+     * @param module The new folder name of the module.
+     */
+    protected void moveNotes(ModuleManager moduleManager, String module) {
+        NusModule nusModule = moduleManager.getModule(module);
+        if (nusModule == null || !nusModule.isLoaded(Note.class)) {
+            return;
+        }
+        Path moduleFolder = getAppendPath(baseDirectory, module);
+        for (Note note : nusModule.getContentManager(Note.class).getContents()) {
+            if (note.getFilePath() != null) {
+                forget(note.getFilePath());
+                note.setFilePath(getAppendPath(moduleFolder, note.getFilePath().getFileName().toString()));
+            }
+        }
+    }
+
+    /**
+     * Applies note files changed outside TermiNUS to the notes of their modules, without reading the other files.
+     * New note files are added, and notes whose file was deleted are removed unless they have unsaved data. A module
+     * folder given as changed is loaded again as a whole. Modules whose notes have not been loaded are skipped, as
+     * their folder is read when they are first used.
+     *
+     * @param moduleManager The Module Manager containing all item information used in TermiNUS.
+     * @param changedPaths The changed note files, and module folders to be loaded again.
+     * @return The number of changed paths applied to loaded notes.
+     */
+    protected int applyChanges(ModuleManager moduleManager, Collection<Path> changedPaths) {
+        int appliedCount = 0;
+        for (Path changedPath : changedPaths) {
+            Path relativePath = baseDirectory.relativize(changedPath);
+            if (relativePath.getNameCount() < 1 || relativePath.getNameCount() > 2) {
+                continue;
+            }
+            String module = relativePath.getName(0).toString();
+            NusModule nusModule = moduleManager.getModule(module);
+            if (nusModule == null || !nusModule.isLoaded(Note.class)) {
+                continue;
+            }
+            ContentManager<Note> contentManager = nusModule.getContentManager(Note.class);
+            if (relativePath.getNameCount() == 2 && !isNoteFileName(changedPath.getFileName().toString())) {
+                continue;
+            }
+            try {
+                if (relativePath.getNameCount() == 1) {
+                    TerminusLogger.info(String.format("Reloading all notes in module folder : %s", module));
+                    loadNotes(module, contentManager);
+                } else {
+                    applyChange(changedPath.toFile(), contentManager);
+                }
+                appliedCount++;
+            } catch (InvalidFileException e) {
+                TerminusLogger.warning(e.getMessage());
+            }
+        }
+        return appliedCount;
+    }
+
+    /**
+     * Returns true if a file of the given name in a module folder can be a note file. Only text files are notes, and
+     * the data files and temporary files written by TermiNUS are never notes.
+     *
+     * @param fileName The name of the file.
+     * @return True if the file can be a note file, false otherwise.
+     */
+    private static boolean isNoteFileName(String fileName) {
+        String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        if (DATA_FILE_NAMES.contains(lowerCaseName) || lowerCaseName.endsWith(TEMP_FILE_EXTENSION)) {
+            return false;
+        }
+        return lowerCaseName.endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Applies a single note file changed outside TermiNUS to the given notes.
+     *
+     * @param file The changed note file, which may no longer exist.
+     * @param contentManager The content manager of Note of the module folder of the file.
+     */
+    private void applyChange(File file, ContentManager<Note> contentManager) {
+        forget(file.toPath());
+        String noteName = CommonUtils.getFileNameOnly(file.getName());
+        Note note = contentManager.getContent(noteName);
+        boolean isNoteFile = file.isFile() && isValidTextFile(file) && CommonUtils.isValidFileName(noteName);
+        if (!isNoteFile) {
+            if (note != null && !note.isModified()) {
+                TerminusLogger.info(String.format("Removing note deleted outside TermiNUS : %s", noteName));
+                contentManager.remove(note);
+            }
+            return;
+        }
+        if (note == null) {
+            TerminusLogger.info(String.format("Adding note created outside TermiNUS : %s", noteName));
+            contentManager.add(createNote(file));
+        } else if (note.getFilePath() == null && !note.isModified()) {
+            // Saved data held in memory is read from the file from now on
+            contentManager.replace(note, new Note(note.getName(), file.toPath(), this));
+        }
+    }
+
+    /**
+     * Checks the validity of the given text file.
      *
      * @param file The file to be checked.
-     * @param noteContentManager The content manager of Note.
+     * @param scannedNotes The notes of the files already read from the same module folder.
      * @return True if the file is a valid note data, otherwise false.
      */
-    private boolean isValidNote(File file, ContentManager<Note> noteContentManager) {
+    private boolean isValidNote(File file, Map<String, Note> scannedNotes) {
         String fileName = CommonUtils.getFileNameOnly(file.getName());
         boolean isValid = true;
-        if (!isValidTextFile(file)) {
+        if (!CommonUtils.isValidFileName(fileName)) {
             isValid = false;
-        } else if (!CommonUtils.isValidFileName(fileName)) {
-            isValid = false;
-        } else if (noteContentManager.isDuplicateName(fileName)) {
+        } else if (scannedNotes.containsKey(getNoteKey(fileName))) {
             isValid = false;
         }
         return isValid;
@@ -147,21 +562,37 @@ public class NoteStorage extends Storage {
 
     /**
      * Saves all notes from the ModuleManager into their respective module folder.
+     * Modules whose notes have not been loaded are skipped, and so are notes unchanged since they were last read or
+     * written.
      *
      * @param moduleManager The Module Manager containing all item information used in TermiNUS.
+     * @return The number of note files written.
      * @throws InvalidFileException when any file I/O operations has error.
      */
-    protected void saveAllNotes(ModuleManager moduleManager) throws InvalidFileException {
+    protected int saveAllNotes(ModuleManager moduleManager) throws InvalidFileException {
+        int writtenCount = 0;
         for (String module : moduleManager.getAllModules()) {
             Path moduleFolder = getAppendPath(baseDirectory, module);
             createFolder(moduleFolder);
-            ContentManager<Note> contentManager = moduleManager.getModule(module).getContentManager(Note.class);
-            ArrayList<Note> noteArrayList = contentManager.getContents();
+            NusModule nusModule = moduleManager.getModule(module);
+            if (!nusModule.isLoaded(Note.class)) {
+                // Notes that were never loaded are unchanged in their files
+                continue;
+            }
+            ContentManager<Note> contentManager = nusModule.getContentManager(Note.class);
+            List<Note> noteArrayList = contentManager.getContents();
             for (Note note : noteArrayList) {
-                String noteFileName = appendFileExtension(note.getName());
-                writeFile(getAppendPath(moduleFolder, noteFileName), note.getData());
+                if (!note.isModified()) {
+                    continue;
+                }
+                Path noteFilePath = getAppendPath(moduleFolder, appendFileExtension(note.getName()));
+                forget(noteFilePath);
+                writeFile(noteFilePath, note.getData());
+                note.clearModified();
+                writtenCount++;
             }
         }
+        return writtenCount;
     }
 
     /**
@@ -175,17 +606,12 @@ public class NoteStorage extends Storage {
     }
 
     /**
-     * Checks if the file is a text file.
+     * Checks if the file is a text file, by its extension and the start of its content.
      *
      * @param file The given file to be tested on.
      * @return True if the given file is a text file, false otherwise.
      */
     protected boolean isValidTextFile(File file) {
-        try {
-            String contentType = getFileType(file);
-            return CONTENT_TYPE.equals(contentType);
-        } catch (InvalidFileException e) {
-            return false;
-        }
+        return textFileDetector.isTextFile(file);
     }
 }
@@ -0,0 +1,209 @@
+package terminus.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import terminus.common.TerminusLogger;
+
+/**
+ * NoteWatcher class to watch the module folders for note files created, modified or deleted outside TermiNUS.
+ * Events are collected on a dedicated thread, and a file is only reported once no event for it has arrived for
+ * {@link #DEBOUNCE_MILLIS} milliseconds, so that the many events of a single save by an editor are reported once.
+ */
+public class NoteWatcher {
+
+    /**
+     * Time in milliseconds without events for a file before its change is reported.
+     */
+    public static final long DEBOUNCE_MILLIS = 300;
+
+    private static final String THREAD_NAME = "TermiNUS-Watcher";
+
+    private final Path baseDirectory;
+
+    /**
+     * Time of the last event of each changed path, in the order the paths first changed. A module folder is the
+     * changed path when events for it were lost.
+     */
+    private final LinkedHashMap<Path, Long> pendingChanges;
+
+    /**
+     * Folder watched by each watch key, which is only used by the watcher thread once it is started.
+     */
+    private final HashMap<WatchKey, Path> watchedFolders;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Creates a NoteWatcher object. Nothing is watched until it is started.
+     *
+     * @param baseDirectory The base directory containing all module folders.
+     */
+    public NoteWatcher(Path baseDirectory) {
+        this.baseDirectory = baseDirectory;
+        this.pendingChanges = new LinkedHashMap<>();
+        this.watchedFolders = new HashMap<>();
+    }
+
+    /**
+     * Starts watching the base directory and all module folders in it.
+     *
+     * @throws IOException when the folders cannot be watched.
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        try {
+            register(baseDirectory);
+            File[] folders = baseDirectory.toFile().listFiles(File::isDirectory);
+            if (folders != null) {
+                for (File folder : folders) {
+                    register(folder.toPath());
+                }
+            }
+        } catch (IOException e) {
+            watchService.close();
+            watchedFolders.clear();
+            throw e;
+        }
+        thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching the folders. Changes not reported yet are discarded.
+     */
+    public void close() {
+        Thread watcherThread;
+        synchronized (this) {
+            if (thread == null) {
+                return;
+            }
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                TerminusLogger.warning("The note watcher cannot be closed.");
+            }
+            watcherThread = thread;
+            thread = null;
+            pendingChanges.clear();
+        }
+        try {
+            watcherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Removes and returns the paths that have not changed again for the debounce time.
+     *
+     * @return The changed note files, and module folders whose events were lost.
+     */
+    public synchronized List<Path> pollChanges() {
+        ArrayList<Path> changes = new ArrayList<>();
+        long settledTime = System.currentTimeMillis() - DEBOUNCE_MILLIS;
+        Iterator<Map.Entry<Path, Long>> iterator = pendingChanges.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Long> change = iterator.next();
+            if (change.getValue() <= settledTime) {
+                changes.add(change.getKey());
+                iterator.remove();
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns true if any change is waiting to be reported.
+     *
+     * @return True if there are pending changes, false otherwise.
+     */
+    public synchronized boolean hasPendingChanges() {
+        return !pendingChanges.isEmpty();
+    }
+
+    private void register(Path folder) throws IOException {
+        WatchKey key = folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watchedFolders.put(key, folder);
+    }
+
+    private void run() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path folder = watchedFolders.get(key);
+            if (folder != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    handleEvent(folder, event);
+                }
+            }
+            if (!key.reset()) {
+                // The folder was deleted or renamed
+                watchedFolders.remove(key);
+            }
+        }
+    }
+
+    private void handleEvent(Path folder, WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            if (!folder.equals(baseDirectory)) {
+                recordChange(folder);
+            }
+            return;
+        }
+        Path path = folder.resolve((Path) event.context());
+        if (!folder.equals(baseDirectory)) {
+            recordChange(path);
+            return;
+        }
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+            watchNewFolder(path);
+        }
+    }
+
+    /**
+     * Watches a module folder created or renamed after the watcher started. Files written into it before it was
+     * watched are reported as changed.
+     */
+    private void watchNewFolder(Path folder) {
+        try {
+            register(folder);
+        } catch (IOException e) {
+            TerminusLogger.warning(String.format("The module folder %s cannot be watched.", folder));
+            return;
+        }
+        File[] files = folder.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                recordChange(file.toPath());
+            }
+        }
+    }
+
+    private synchronized void recordChange(Path path) {
+        pendingChanges.put(path, System.currentTimeMillis());
+    }
+}
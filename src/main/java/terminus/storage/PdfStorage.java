@@ -8,7 +8,7 @@ import com.lowagie.text.pdf.PdfWriter;
 import java.awt.Color;
 import java.io.FileOutputStream;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.List;
 import terminus.common.CommonFormat;
 import terminus.common.Messages;
 import terminus.common.TerminusLogger;
@@ -60,7 +60,7 @@ public class PdfStorage extends Storage {
         assert moduleManager.getModule(module) != null;
         Path pdfFile = getAppendPath(baseDirectory, appendFileExtension(module));
         ContentManager<Note> contentManager = moduleManager.getModule(module).getContentManager(Note.class);
-        ArrayList<Note> noteArrayList = contentManager.getContents();
+        List<Note> noteArrayList = contentManager.getContents();
         writeToPdf(pdfFile, noteArrayList);
     }
 
@@ -71,7 +71,7 @@ public class PdfStorage extends Storage {
      * @param noteArrayList The listr of notes contents to be written into the pdf file.
      * @throws InvalidFileException when any file I/O operations has error.
      */
-    private void writeToPdf(Path pdfFile, ArrayList<Note> noteArrayList)
+    private void writeToPdf(Path pdfFile, List<Note> noteArrayList)
         throws InvalidFileException {
         try {
             if (noteArrayList.isEmpty()) {
@@ -1,15 +1,25 @@
 package terminus.storage;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import terminus.common.Messages;
 import terminus.common.TerminusLogger;
 import terminus.exception.InvalidFileException;
@@ -19,6 +29,21 @@ import terminus.exception.InvalidFileException;
  */
 public class Storage {
 
+    protected static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Number of appends before an append is forced onto the disk under the batched fsync policy.
+     */
+    private static final int FSYNC_BATCH_SIZE = 16;
+
+    private FsyncPolicyEnum fsyncPolicy = FsyncPolicyEnum.ALWAYS;
+
+    /**
+     * Number of appends by this Storage that have not been forced onto the disk yet under the batched fsync policy.
+     */
+    private final AtomicInteger unsyncedAppends = new AtomicInteger(0);
+
     /**
      * Creates a folder given by its folder path.
      *
@@ -76,6 +101,8 @@ public class Storage {
 
     /**
      * Writes content into the given file by its file path.
+     * The content is first written into a temporary file in the same folder, which then replaces the given file.
+     * This ensures the given file is never left partially written if TermiNUS stops in the middle of writing.
      *
      * @param filePath The full path of the file to be written.
      * @param data The content to be written into the given file.
@@ -85,8 +112,104 @@ public class Storage {
         if (data == null) {
             throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_DATA_NULL, filePath));
         }
+        writeBytes(filePath, data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the given bytes into the given file by its file path, in the same way as text content.
+     *
+     * @param filePath The full path of the file to be written.
+     * @param data The bytes to be written into the given file.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public void writeBytes(Path filePath, byte[] data) throws InvalidFileException {
+        if (data == null) {
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_DATA_NULL, filePath));
+        }
+        writeStream(filePath, output -> output.write(data));
+    }
+
+    /**
+     * Writes content into the given file by streaming it through a buffer, in the same way as text content.
+     * Only the buffer is held in memory, regardless of the size of the content.
+     *
+     * @param filePath The full path of the file to be written.
+     * @param writer The writer of the content into the output stream of the file.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public void writeStream(Path filePath, StreamWriter writer) throws InvalidFileException {
+        if (writer == null) {
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_DATA_NULL, filePath));
+        }
+        Path tempFilePath = null;
         try {
-            Files.writeString(filePath, data);
+            if (Files.isDirectory(filePath)) {
+                throw new InvalidFileException(String.format(Messages.ERROR_FILE_FOLDER_MISMATCH, filePath));
+            }
+            tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_EXTENSION);
+            try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                writer.write(output);
+                output.flush();
+                if (fsyncPolicy != FsyncPolicyEnum.NEVER) {
+                    // The temporary file must be complete on the disk before it replaces the file
+                    channel.force(true);
+                }
+            }
+            replaceFile(tempFilePath, filePath);
+        } catch (InvalidFileException e) {
+            throw e;
+        } catch (IOException e) {
+            deleteTempFile(tempFilePath);
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_FILE, filePath));
+        } catch (Exception e) {
+            deleteTempFile(tempFilePath);
+            throw new InvalidFileException(e.getMessage());
+        }
+    }
+
+    /**
+     * Appends content to the end of the given file by its file path.
+     * The file will be created if it does not exist.
+     *
+     * @param filePath The full path of the file to be appended to.
+     * @param data The content to be appended into the given file.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public void appendFile(Path filePath, String data) throws InvalidFileException {
+        if (data == null) {
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_DATA_NULL, filePath));
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeToChannel(channel, data);
+            forceAppendToDisk(channel);
+        } catch (IOException e) {
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_FILE, filePath));
+        } catch (Exception e) {
+            throw new InvalidFileException(e.getMessage());
+        }
+    }
+
+    /**
+     * Appends content to the end of the given file by streaming it through a buffer, in the same way as text content.
+     * The file will be created if it does not exist.
+     *
+     * @param filePath The full path of the file to be appended to.
+     * @param writer The writer of the content into the output stream of the file.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public void appendStream(Path filePath, StreamWriter writer) throws InvalidFileException {
+        if (writer == null) {
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_DATA_NULL, filePath));
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            writer.write(output);
+            output.flush();
+            forceAppendToDisk(channel);
         } catch (IOException e) {
             throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_FILE, filePath));
         } catch (Exception e) {
@@ -94,6 +217,146 @@ public class Storage {
         }
     }
 
+    /**
+     * Removes the content after the last line separator of the given file, which is the incomplete last line left by
+     * an interrupted append. Files that do not exist are ignored.
+     *
+     * @param filePath The full path of the file to be truncated.
+     * @return The number of bytes removed.
+     * @throws InvalidFileException when any file I/O operations has error.
+     */
+    public long truncateIncompleteLine(Path filePath) throws InvalidFileException {
+        if (Files.notExists(filePath)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long end = size;
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (end > 0) {
+                buffer.clear();
+                long start = Math.max(0, end - BUFFER_SIZE);
+                buffer.limit((int) (end - start));
+                int readCount = 0;
+                while (buffer.hasRemaining() && readCount >= 0) {
+                    readCount = channel.read(buffer, start + buffer.position());
+                }
+                int newlineIndex = lastIndexOf(buffer, (byte) '\n');
+                if (newlineIndex >= 0) {
+                    end = start + newlineIndex + 1;
+                    break;
+                }
+                end = start;
+            }
+            if (end < size) {
+                channel.truncate(end);
+                channel.force(true);
+            }
+            return size - end;
+        } catch (IOException e) {
+            throw new InvalidFileException(String.format(Messages.ERROR_STORAGE_WRITE_FILE, filePath));
+        }
+    }
+
+    private int lastIndexOf(ByteBuffer buffer, byte value) {
+        for (int i = buffer.position() - 1; i >= 0; i--) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void writeToChannel(FileChannel channel, String data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Forces the appended content of the channel onto the disk according to the fsync policy.
+     * Under the batched policy, only every {@link #FSYNC_BATCH_SIZE}th append of this Storage is forced, which also
+     * makes all earlier appends to the same file durable. Up to that number of the latest appends less one can be
+     * lost on a power failure, but never content written by replacing a file.
+     *
+     * @param channel The channel of the file that was appended to.
+     * @throws IOException when the content could not be forced onto the disk.
+     */
+    private void forceAppendToDisk(FileChannel channel) throws IOException {
+        switch (fsyncPolicy) {
+        case ALWAYS:
+            channel.force(true);
+            break;
+        case BATCHED:
+            if (unsyncedAppends.incrementAndGet() >= FSYNC_BATCH_SIZE) {
+                unsyncedAppends.set(0);
+                channel.force(true);
+            }
+            break;
+        case NEVER:
+            break;
+        default:
+            assert false;
+        }
+    }
+
+    /**
+     * Replaces the target file with the source file, atomically if supported by the file system.
+     *
+     * @param source The full path of the file to be moved.
+     * @param target The full path of the file to be replaced.
+     * @throws IOException when the file could not be moved.
+     */
+    private void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (fsyncPolicy == FsyncPolicyEnum.ALWAYS) {
+            forceFolderToDisk(target.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Forces a folder entry onto the disk so that a renamed file survives a crash.
+     * Not all platforms allow folders to be opened, in which case this is skipped.
+     *
+     * @param folderPath The full path of the folder.
+     */
+    private void forceFolderToDisk(Path folderPath) {
+        try (FileChannel channel = FileChannel.open(folderPath, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Ignore as the file itself was already forced onto the disk
+        }
+    }
+
+    private void deleteTempFile(Path tempFilePath) {
+        try {
+            if (tempFilePath != null) {
+                Files.deleteIfExists(tempFilePath);
+            }
+        } catch (IOException e) {
+            TerminusLogger.warning(String.format(Messages.ERROR_STORAGE_FILE_NOT_DELETED, tempFilePath));
+        }
+    }
+
+    /**
+     * Sets the policy of forcing written content onto the disk.
+     *
+     * @param fsyncPolicy The fsync policy to use for all subsequent writes.
+     */
+    public void setFsyncPolicy(FsyncPolicyEnum fsyncPolicy) {
+        assert fsyncPolicy != null;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public FsyncPolicyEnum getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
     /**
      * Delete a file or folder given by their file path.
      *
@@ -173,23 +436,6 @@ public class Storage {
         return result;
     }
 
-    /**
-     * Gets the file type of the given file.
-     *
-     * @param file The given file to be checked on.
-     * @return The file type of the given file.
-     * @throws InvalidFileException when any file I/O operations has error.
-     */
-    public String getFileType(File file) throws InvalidFileException {
-        try {
-            return Files.probeContentType(Paths.get(file.getAbsolutePath()));
-        } catch (IOException e) {
-            throw new InvalidFileException(String.format(Messages.ERROR_GET_FILE_CONTENT, file.getAbsolutePath()));
-        } catch (NullPointerException e) {
-            throw new InvalidFileException(String.format(Messages.ERROR_GET_FILE_CONTENT, "null"));
-        }
-    }
-
     /**
      * Renames the a folder given by its old name and new name to be renamed to.
      *
@@ -0,0 +1,6 @@
+package terminus.storage;
+
+public enum StorageFormatEnum {
+    JSON,
+    BINARY
+}
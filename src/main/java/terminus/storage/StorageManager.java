@@ -1,10 +1,18 @@
 package terminus.storage;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import terminus.command.CommandResult;
 import terminus.common.Messages;
 import terminus.common.TerminusLogger;
+import terminus.content.ContentManager;
+import terminus.content.Note;
 import terminus.exception.InvalidFileException;
+import terminus.module.ContentLoader;
 import terminus.module.ModuleManager;
 
 /**
@@ -12,6 +20,11 @@ import terminus.module.ModuleManager;
  */
 public class StorageManager {
 
+    /**
+     * Size of the journal file in bytes before it is folded into the main json file.
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1000000;
+
     private Path baseDirectory;
 
     /**
@@ -23,6 +36,10 @@ public class StorageManager {
     private FolderStorage folderStorage;
     private JsonStorage jsonStorage;
     private PdfStorage pdfStorage;
+    private JournalStorage journalStorage;
+
+    private BackgroundWriter backgroundWriter;
+    private NoteWatcher noteWatcher;
 
     /**
      * Initialises all related storage type that handles different file I/O operations.
@@ -36,7 +53,10 @@ public class StorageManager {
         this.folderStorage = new FolderStorage(baseDirectory);
         this.jsonStorage = new JsonStorage(baseDirectory, mainJsonFileName);
         this.pdfStorage = new PdfStorage(baseDirectory);
+        this.journalStorage = new JournalStorage(baseDirectory, mainJsonFileName);
         this.isDisabled = false;
+        this.backgroundWriter = new BackgroundWriter(journalStorage, jsonStorage, DEFAULT_COMPACTION_THRESHOLD);
+        this.noteWatcher = new NoteWatcher(baseDirectory);
     }
 
     /**
@@ -55,14 +75,36 @@ public class StorageManager {
     }
 
     /**
-     * Updates the main json file with the current ModuleManager contents.
+     * Records the changes made to the ModuleManager contents into the journal of the main json file.
+     * Only modules with changes that have not been saved yet are queued, and are written in the background.
      *
      * @param moduleManager The Module Manager containing all item information used in TermiNUS.
-     * @throws InvalidFileException when any file I/O operations has error.
+     * @throws InvalidFileException when an earlier write in the background has failed.
      */
     public void updateMainJsonFile(ModuleManager moduleManager) throws InvalidFileException {
-        execute(moduleManager, null, null, StorageActionEnum.UPDATE, StorageTypeEnum.JSON);
-        TerminusLogger.info("Save completed.");
+        if (isDisabled) {
+            TerminusLogger.info("Storage has been disabled.");
+            return;
+        }
+        if (moduleManager == null) {
+            throw new InvalidFileException(Messages.ERROR_MISSING_MODULE_MANAGER);
+        }
+        if (!moduleManager.isModified()) {
+            TerminusLogger.info("No changes detected, skipping save.");
+            return;
+        }
+        backgroundWriter.submit(journalStorage.createEntries(moduleManager));
+        moduleManager.clearModified();
+        TerminusLogger.info("Save queued.");
+    }
+
+    /**
+     * Waits until all changes queued to the journal are written.
+     *
+     * @throws InvalidFileException when a write in the background has failed.
+     */
+    void flush() throws InvalidFileException {
+        backgroundWriter.flush();
     }
 
     /**
@@ -89,8 +131,19 @@ public class StorageManager {
         case JSON:
             jsonStorage.execute(moduleManager, action);
             break;
+        case JOURNAL:
+            journalStorage.execute(moduleManager, action);
+            break;
         case FOLDER:
+            // Module folders are changed only once the background writer is done writing into them
+            flush();
             folderStorage.execute(module, deletedItem, action);
+            if (action == StorageActionEnum.DELETE || action == StorageActionEnum.UPDATE) {
+                noteStorage.forgetModule(deletedItem);
+            }
+            if (action == StorageActionEnum.UPDATE) {
+                noteStorage.moveNotes(moduleManager, module);
+            }
             break;
         case TEXT:
             noteStorage.execute(moduleManager, module, deletedItem, action);
@@ -117,16 +170,31 @@ public class StorageManager {
     }
 
     /**
-     * Loads the data from the json file and all its respective note data for each module.
+     * Loads the list of modules from the main json file and replays the journal.
+     * The links and questions of each module are only loaded from its module folder when they are first used, while
+     * the notes of all modules are loaded in the background. Schedules are listed from the links in the main json
+     * file until then.
      *
-     * @return The ModuleManager objects containing the contents from the json file and its respective note file data.
+     * @return The ModuleManager objects containing the modules from the main json file.
      * @throws InvalidFileException when any file I/O operations has error.
      */
     private ModuleManager load() throws InvalidFileException {
-        ModuleManager moduleManager = jsonStorage.loadJson();
-        if (moduleManager == null) {
-            return new ModuleManager();
+        ModuleManager moduleManager = new ModuleManager();
+        StorageManifest manifest = jsonStorage.loadManifest();
+        HashMap<String, ModuleLoader> loaders = new HashMap<>();
+        Function<String, ContentLoader> createLoader = module -> {
+            ModuleLoader loader = new ModuleLoader(module, jsonStorage, noteStorage);
+            loaders.put(module.toUpperCase(), loader);
+            return loader;
+        };
+        for (String module : manifest.getModules()) {
+            if (FilterManager.isModuleValid(module)) {
+                moduleManager.addModule(module);
+                moduleManager.getModule(module).setLoader(createLoader.apply(module));
+            }
         }
+        TerminusLogger.info(String.format("Replaying journal file : %s", journalStorage.getJournalFilePath()));
+        journalStorage.replay(moduleManager, createLoader);
 
         // Filter
         try {
@@ -136,20 +204,51 @@ public class StorageManager {
             throw new InvalidFileException(Messages.ERROR_JSON_FILTER);
         }
 
-
-        // Load Notes
+        HashMap<String, Future<ContentManager<Note>>> pendingNotes =
+                noteStorage.loadNotesInBackground(List.of(moduleManager.getAllModules()));
         for (String module : moduleManager.getAllModules()) {
-            try {
-                noteStorage.execute(moduleManager, module, null, StorageActionEnum.RELOAD);
-            } catch (Exception e) {
-                TerminusLogger.warning(String.format("Some notes in module %s cannot be loaded.", module));
-            }
+            // Links and questions replayed from the journal are already loaded, and are not read again
+            ModuleLoader loader = loaders.get(module);
+            loader.setSchedule(manifest.getSchedules().get(module));
+            loader.setPendingNotes(pendingNotes.get(module));
         }
+        moduleManager.clearModified();
+        backgroundWriter.requestCompaction();
         return moduleManager;
     }
 
+    /**
+     * Starts watching the module folders for note files changed outside TermiNUS.
+     * Notes can still be reloaded manually if the folders cannot be watched.
+     */
+    public void startWatchingNotes() {
+        try {
+            noteWatcher.start();
+        } catch (IOException e) {
+            TerminusLogger.warning("Note files changed outside TermiNUS will not be applied automatically.");
+        }
+    }
+
+    /**
+     * Applies the note files changed outside TermiNUS since the last call to the notes of their modules.
+     *
+     * @param moduleManager The Module Manager containing all item information used in TermiNUS.
+     */
+    public void applyNoteChanges(ModuleManager moduleManager) {
+        if (isDisabled || moduleManager == null) {
+            return;
+        }
+        List<Path> changedPaths = noteWatcher.pollChanges();
+        if (!changedPaths.isEmpty()) {
+            int appliedCount = noteStorage.applyChanges(moduleManager, changedPaths);
+            TerminusLogger.info(String.format("Applied %d note files changed outside TermiNUS.", appliedCount));
+        }
+    }
+
     /**
      * Saves all data in the given ModuleManager.
+     * Note folders are no longer watched, all changes still queued are written first, and the background writer is
+     * stopped afterwards.
      *
      * @param moduleManager The Module Manager containing all item information used in TermiNUS.
      * @throws InvalidFileException when any file I/O operations has error.
@@ -161,8 +260,11 @@ public class StorageManager {
         if (moduleManager == null) {
             throw new InvalidFileException(Messages.ERROR_MISSING_MODULE_MANAGER);
         }
-        jsonStorage.execute(moduleManager, StorageActionEnum.UPDATE);
-        noteStorage.saveAllNotes(moduleManager);
+        noteWatcher.close();
+        backgroundWriter.close(journalStorage.createEntries(moduleManager));
+        moduleManager.clearModified();
+        int writtenCount = noteStorage.saveAllNotes(moduleManager);
+        TerminusLogger.info(String.format("Saved %d changed note files.", writtenCount));
     }
 
     /**
@@ -173,4 +275,35 @@ public class StorageManager {
     public void setDisabled(boolean disabled) {
         isDisabled = disabled;
     }
+
+    /**
+     * Sets the policy of forcing written content onto the disk for all storage types.
+     *
+     * @param fsyncPolicy The fsync policy to use for all subsequent writes.
+     */
+    public void setFsyncPolicy(FsyncPolicyEnum fsyncPolicy) {
+        noteStorage.setFsyncPolicy(fsyncPolicy);
+        folderStorage.setFsyncPolicy(fsyncPolicy);
+        jsonStorage.setFsyncPolicy(fsyncPolicy);
+        pdfStorage.setFsyncPolicy(fsyncPolicy);
+        journalStorage.setFsyncPolicy(fsyncPolicy);
+    }
+
+    /**
+     * Sets the format that the data files of modules are written in.
+     *
+     * @param storageFormat The storage format of the data files.
+     */
+    public void setStorageFormat(StorageFormatEnum storageFormat) {
+        jsonStorage.setStorageFormat(storageFormat);
+    }
+
+    /**
+     * Sets the size of the journal file in bytes before it is folded into the main json file.
+     *
+     * @param compactionThreshold The size of the journal file in bytes.
+     */
+    public void setCompactionThreshold(long compactionThreshold) {
+        backgroundWriter.setCompactionThreshold(compactionThreshold);
+    }
 }
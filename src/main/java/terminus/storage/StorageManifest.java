@@ -0,0 +1,52 @@
+package terminus.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import terminus.content.Link;
+
+/**
+ * StorageManifest class to represent the main json file, which lists all modules that have a data file.
+ * The links of each module are listed as well, so that schedules can be shown without reading the data files.
+ */
+public class StorageManifest {
+
+    private ArrayList<String> modules;
+
+    /**
+     * Links of each module, keyed by module name. Modules that are not in the map have to be read to get their links.
+     */
+    private HashMap<String, List<Link>> schedules;
+
+    /**
+     * Creates a StorageManifest object.
+     *
+     * @param modules The names of all modules that have a data file.
+     * @param schedules The links of each module, keyed by module name.
+     */
+    public StorageManifest(Collection<String> modules, Map<String, List<Link>> schedules) {
+        this.modules = new ArrayList<>(modules);
+        this.schedules = new HashMap<>(schedules);
+    }
+
+    public ArrayList<String> getModules() {
+        if (modules == null) {
+            return new ArrayList<>();
+        }
+        return modules;
+    }
+
+    /**
+     * Returns the links of each module listed in the main json file.
+     *
+     * @return The links of each module, keyed by module name.
+     */
+    public Map<String, List<Link>> getSchedules() {
+        if (schedules == null) {
+            return new HashMap<>();
+        }
+        return schedules;
+    }
+}
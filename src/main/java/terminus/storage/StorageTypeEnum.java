@@ -2,6 +2,7 @@ package terminus.storage;
 
 public enum StorageTypeEnum {
     JSON,
+    JOURNAL,
     TEXT,
     FOLDER,
     PDF,
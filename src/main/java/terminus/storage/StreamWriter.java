@@ -0,0 +1,20 @@
+package terminus.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * StreamWriter interface to write the content of a file directly into its output stream, without building the whole
+ * content in memory first.
+ */
+public interface StreamWriter {
+
+    /**
+     * Writes the content into the given output stream.
+     * Any buffers wrapped around the output stream must be flushed before returning, and the stream must not be closed.
+     *
+     * @param output The output stream of the file.
+     * @throws IOException when the content could not be written.
+     */
+    void write(OutputStream output) throws IOException;
+}
@@ -0,0 +1,126 @@
+package terminus.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import terminus.common.CommonFormat;
+
+/**
+ * TextFileDetector class to check whether files are text files without relying on the MIME types of the platform.
+ * A text file has the text file extension and starts with valid UTF-8 without any null character. Results are cached
+ * for each file until its last modified time or size changes, or until the file or its folder is forgotten.
+ */
+public class TextFileDetector {
+
+    /**
+     * Number of bytes at the start of a file that are checked.
+     */
+    public static final int SNIFF_SIZE = 4096;
+
+    private static final byte NULL_CHARACTER = 0;
+
+    private final ConcurrentHashMap<Path, CachedResult> results;
+
+    public TextFileDetector() {
+        this.results = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns true if the given file is a text file. A file that does not exist is judged by its extension only.
+     *
+     * @param file The file to be checked.
+     * @return True if the file is a text file, false otherwise.
+     */
+    public boolean isTextFile(File file) {
+        if (file == null || !file.getName().toLowerCase(Locale.ROOT).endsWith(CommonFormat.EXTENSION_TEXT_FILE)) {
+            return false;
+        }
+        Path filePath = file.toPath();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return !file.exists();
+        }
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+        CachedResult cachedResult = results.get(filePath);
+        if (cachedResult != null && cachedResult.lastModified == lastModified && cachedResult.size == size) {
+            return cachedResult.isTextFile;
+        }
+        boolean isTextFile = attributes.isRegularFile() && hasTextContent(filePath, size);
+        results.put(filePath, new CachedResult(lastModified, size, isTextFile));
+        return isTextFile;
+    }
+
+    /**
+     * Removes the cached result of the given file, after it was changed or deleted.
+     *
+     * @param filePath The full path of the file.
+     */
+    public void forget(Path filePath) {
+        results.remove(filePath);
+    }
+
+    /**
+     * Removes the cached results of all files in the given folder, after it was deleted or renamed.
+     *
+     * @param folderPath The full path of the folder.
+     */
+    public void forgetFolder(Path folderPath) {
+        results.keySet().removeIf(filePath -> filePath.startsWith(folderPath));
+    }
+
+    /**
+     * Checks that the start of the given file is valid UTF-8 without any null character. A character cut off at the
+     * end of the checked bytes is allowed.
+     */
+    private boolean hasTextContent(Path filePath, long size) {
+        byte[] bytes = new byte[(int) Math.min(size, SNIFF_SIZE)];
+        int length = 0;
+        try (InputStream input = Files.newInputStream(filePath)) {
+            int count;
+            while (length < bytes.length && (count = input.read(bytes, length, bytes.length - length)) != -1) {
+                length += count;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == NULL_CHARACTER) {
+                return false;
+            }
+        }
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        boolean isEndOfFile = length == size;
+        CoderResult result = decoder.decode(ByteBuffer.wrap(bytes, 0, length), CharBuffer.allocate(length),
+                isEndOfFile);
+        return !result.isError();
+    }
+
+    private static class CachedResult {
+
+        private final long lastModified;
+        private final long size;
+        private final boolean isTextFile;
+
+        private CachedResult(long lastModified, long size, boolean isTextFile) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.isTextFile = isTextFile;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package terminus.storage.adapter;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+
+/**
+ * AdapterUtils class containing the reading operations shared by the type adapters.
+ */
+class AdapterUtils {
+
+    /**
+     * Reads the next string value, or consumes a null value.
+     *
+     * @param in The reader positioned at a string or null value.
+     * @return The string value, or null if the value is null.
+     * @throws IOException when the next value is not a string or null.
+     */
+    static String nextStringOrNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Returns true and consumes the next value if it is null.
+     *
+     * @param in The reader positioned at a value.
+     * @return True if the next value was null, false otherwise.
+     * @throws IOException when the reader has error.
+     */
+    static boolean skipNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+}
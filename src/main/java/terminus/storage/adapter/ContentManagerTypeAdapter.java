@@ -0,0 +1,75 @@
+package terminus.storage.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import terminus.content.Content;
+import terminus.content.ContentManager;
+
+/**
+ * ContentManagerTypeAdapter class to write and read ContentManager objects in json without reflection.
+ *
+ * @param <T> Content object type.
+ */
+public class ContentManagerTypeAdapter<T extends Content> extends TypeAdapter<ContentManager<T>> {
+
+    private static final String CONTENTS = "contents";
+
+    private final TypeAdapter<T> contentAdapter;
+
+    /**
+     * Creates a ContentManagerTypeAdapter object.
+     *
+     * @param contentAdapter The TypeAdapter of the contents.
+     */
+    public ContentManagerTypeAdapter(TypeAdapter<T> contentAdapter) {
+        this.contentAdapter = contentAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, ContentManager<T> contentManager) throws IOException {
+        if (contentManager == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name(CONTENTS);
+        out.beginArray();
+        for (T content : contentManager.getContents()) {
+            contentAdapter.write(out, content);
+        }
+        out.endArray();
+        out.endObject();
+    }
+
+    @Override
+    public ContentManager<T> read(JsonReader in) throws IOException {
+        if (AdapterUtils.skipNull(in)) {
+            return null;
+        }
+        ContentManager<T> contentManager = new ContentManager<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!in.nextName().equals(CONTENTS)) {
+                in.skipValue();
+            } else if (!AdapterUtils.skipNull(in)) {
+                contentManager.setContent(readContents(in));
+            }
+        }
+        in.endObject();
+        contentManager.setModified(false);
+        return contentManager;
+    }
+
+    private ArrayList<T> readContents(JsonReader in) throws IOException {
+        ArrayList<T> contents = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            contents.add(contentAdapter.read(in));
+        }
+        in.endArray();
+        return contents;
+    }
+}
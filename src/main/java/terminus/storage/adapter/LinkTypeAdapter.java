@@ -0,0 +1,129 @@
+package terminus.storage.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import terminus.content.Link;
+
+/**
+ * LinkTypeAdapter class to write and read Link objects in json without reflection.
+ * The start time is written as an ISO-8601 time string. Start times written as an object of its hour, minute, second
+ * and nano fields are still read.
+ */
+public class LinkTypeAdapter extends TypeAdapter<Link> {
+
+    private static final String NAME = "name";
+    private static final String DAY = "day";
+    private static final String START_TIME = "startTime";
+    private static final String DURATION = "duration";
+    private static final String LINK = "link";
+    private static final String HOUR = "hour";
+    private static final String MINUTE = "minute";
+    private static final String SECOND = "second";
+    private static final String NANO = "nano";
+
+    @Override
+    public void write(JsonWriter out, Link link) throws IOException {
+        if (link == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name(NAME).value(link.getName());
+        out.name(DAY).value(link.getDay());
+        LocalTime startTime = link.getStartTime();
+        out.name(START_TIME).value(startTime == null ? null : startTime.toString());
+        out.name(DURATION).value(link.getDuration());
+        out.name(LINK).value(link.getLink());
+        out.endObject();
+    }
+
+    @Override
+    public Link read(JsonReader in) throws IOException {
+        if (AdapterUtils.skipNull(in)) {
+            return null;
+        }
+        String name = null;
+        String day = null;
+        LocalTime startTime = null;
+        int duration = 0;
+        String link = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case NAME:
+                name = AdapterUtils.nextStringOrNull(in);
+                break;
+            case DAY:
+                day = AdapterUtils.nextStringOrNull(in);
+                break;
+            case START_TIME:
+                startTime = readTime(in);
+                break;
+            case DURATION:
+                duration = in.nextInt();
+                break;
+            case LINK:
+                link = AdapterUtils.nextStringOrNull(in);
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+        return new Link(name, day, startTime, duration, link);
+    }
+
+    /**
+     * Reads a start time, which is left as null if it is not a valid time so that the link is filtered out.
+     */
+    private LocalTime readTime(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.BEGIN_OBJECT) {
+            return readLegacyTime(in);
+        }
+        String value = AdapterUtils.nextStringOrNull(in);
+        try {
+            return value == null ? null : LocalTime.parse(value);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private LocalTime readLegacyTime(JsonReader in) throws IOException {
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case HOUR:
+                hour = in.nextInt();
+                break;
+            case MINUTE:
+                minute = in.nextInt();
+                break;
+            case SECOND:
+                second = in.nextInt();
+                break;
+            case NANO:
+                nano = in.nextInt();
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+        try {
+            return LocalTime.of(hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package terminus.storage.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+/**
+ * ModuleManagerTypeAdapter class to write and read ModuleManager objects in json without reflection.
+ * The modules are stored in a json object keyed by module name.
+ */
+public class ModuleManagerTypeAdapter extends TypeAdapter<ModuleManager> {
+
+    private static final String MODULE_MAP = "moduleMap";
+
+    private final TypeAdapter<NusModule> moduleAdapter;
+
+    /**
+     * Creates a ModuleManagerTypeAdapter object.
+     *
+     * @param moduleAdapter The TypeAdapter of the modules.
+     */
+    public ModuleManagerTypeAdapter(TypeAdapter<NusModule> moduleAdapter) {
+        this.moduleAdapter = moduleAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, ModuleManager moduleManager) throws IOException {
+        if (moduleManager == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name(MODULE_MAP);
+        out.beginObject();
+        for (String module : moduleManager.getAllModules()) {
+            out.name(module);
+            moduleAdapter.write(out, moduleManager.getModule(module));
+        }
+        out.endObject();
+        out.endObject();
+    }
+
+    @Override
+    public ModuleManager read(JsonReader in) throws IOException {
+        if (AdapterUtils.skipNull(in)) {
+            return null;
+        }
+        LinkedHashMap<String, NusModule> modules = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!in.nextName().equals(MODULE_MAP)) {
+                in.skipValue();
+            } else if (!AdapterUtils.skipNull(in)) {
+                in.beginObject();
+                while (in.hasNext()) {
+                    String module = in.nextName();
+                    modules.put(module, moduleAdapter.read(in));
+                }
+                in.endObject();
+            }
+        }
+        in.endObject();
+        return new ModuleManager(modules);
+    }
+}
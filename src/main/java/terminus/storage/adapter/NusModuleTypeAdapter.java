@@ -0,0 +1,80 @@
+package terminus.storage.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import terminus.content.Content;
+import terminus.content.ContentManager;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.module.NusModule;
+
+/**
+ * NusModuleTypeAdapter class to write and read the links and questions of NusModule objects in json without
+ * reflection. Notes are stored in their own files and are not written.
+ */
+public class NusModuleTypeAdapter extends TypeAdapter<NusModule> {
+
+    private static final String LINK_MANAGER = "linkManager";
+    private static final String QUESTION_MANAGER = "questionManager";
+
+    private final ContentManagerTypeAdapter<Link> linkManagerAdapter;
+    private final ContentManagerTypeAdapter<Question> questionManagerAdapter;
+
+    /**
+     * Creates a NusModuleTypeAdapter object.
+     *
+     * @param linkAdapter The TypeAdapter of the links.
+     * @param questionAdapter The TypeAdapter of the questions.
+     */
+    public NusModuleTypeAdapter(TypeAdapter<Link> linkAdapter, TypeAdapter<Question> questionAdapter) {
+        this.linkManagerAdapter = new ContentManagerTypeAdapter<>(linkAdapter);
+        this.questionManagerAdapter = new ContentManagerTypeAdapter<>(questionAdapter);
+    }
+
+    @Override
+    public void write(JsonWriter out, NusModule module) throws IOException {
+        if (module == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name(LINK_MANAGER);
+        linkManagerAdapter.write(out, module.getContentManager(Link.class));
+        out.name(QUESTION_MANAGER);
+        questionManagerAdapter.write(out, module.getContentManager(Question.class));
+        out.endObject();
+    }
+
+    @Override
+    public NusModule read(JsonReader in) throws IOException {
+        if (AdapterUtils.skipNull(in)) {
+            return null;
+        }
+        NusModule module = new NusModule();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case LINK_MANAGER:
+                copyContents(linkManagerAdapter.read(in), module.getContentManager(Link.class));
+                break;
+            case QUESTION_MANAGER:
+                copyContents(questionManagerAdapter.read(in), module.getContentManager(Question.class));
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+        module.setModified(false);
+        return module;
+    }
+
+    private <T extends Content> void copyContents(ContentManager<T> source, ContentManager<T> target) {
+        if (source != null) {
+            target.setContent(source.getContents());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package terminus.storage.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import terminus.content.Question;
+
+/**
+ * QuestionTypeAdapter class to write and read Question objects in json without reflection.
+ */
+public class QuestionTypeAdapter extends TypeAdapter<Question> {
+
+    private static final String NAME = "name";
+    private static final String DATA = "data";
+    private static final String WEIGHT = "weight";
+
+    @Override
+    public void write(JsonWriter out, Question question) throws IOException {
+        if (question == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name(NAME).value(question.getQuestion());
+        out.name(DATA).value(question.getAnswer());
+        out.name(WEIGHT).value(question.getWeight());
+        out.endObject();
+    }
+
+    @Override
+    public Question read(JsonReader in) throws IOException {
+        if (AdapterUtils.skipNull(in)) {
+            return null;
+        }
+        String name = null;
+        String data = null;
+        Double weight = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case NAME:
+                name = AdapterUtils.nextStringOrNull(in);
+                break;
+            case DATA:
+                data = AdapterUtils.nextStringOrNull(in);
+                break;
+            case WEIGHT:
+                weight = in.nextDouble();
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+        Question question = new Question(name, data);
+        if (weight != null) {
+            question.setWeight(weight);
+        }
+        return question;
+    }
+}
@@ -0,0 +1,30 @@
+package terminus.storage.adapter;
+
+import com.google.gson.GsonBuilder;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+/**
+ * TypeAdapters class to register the type adapters of all stored objects, so that they are written and read without
+ * reflection.
+ */
+public class TypeAdapters {
+
+    /**
+     * Creates a GsonBuilder with the type adapters of all stored objects registered.
+     *
+     * @return The GsonBuilder with all type adapters registered.
+     */
+    public static GsonBuilder createGsonBuilder() {
+        LinkTypeAdapter linkAdapter = new LinkTypeAdapter();
+        QuestionTypeAdapter questionAdapter = new QuestionTypeAdapter();
+        NusModuleTypeAdapter moduleAdapter = new NusModuleTypeAdapter(linkAdapter, questionAdapter);
+        return new GsonBuilder()
+                .registerTypeAdapter(Link.class, linkAdapter)
+                .registerTypeAdapter(Question.class, questionAdapter)
+                .registerTypeAdapter(NusModule.class, moduleAdapter)
+                .registerTypeAdapter(ModuleManager.class, new ModuleManagerTypeAdapter(moduleAdapter));
+    }
+}
@@ -2,8 +2,8 @@ package terminus.timetable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
-import terminus.content.ContentManager;
 import terminus.content.Link;
 import terminus.module.ModuleManager;
 import terminus.module.NusModule;
@@ -30,9 +30,9 @@ public class ConflictManager {
 
         stream.forEach(x -> {
             NusModule module = moduleManager.getModule(x);
-            ContentManager<Link> contentManager = module.getContentManager(Link.class);
-            assert contentManager != null;
-            currentLinks.addAll(contentManager.getContents());
+            List<Link> links = module.getSchedule();
+            assert links != null;
+            currentLinks.addAll(links);
         });
 
         return currentLinks;
@@ -5,11 +5,13 @@ import static terminus.common.CommonUtils.isStringNullOrEmpty;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 import java.util.stream.Stream;
+import terminus.common.CommonFormat;
 import terminus.common.DaysOfWeekEnum;
 import terminus.common.Messages;
 import terminus.common.TerminusLogger;
-import terminus.content.ContentManager;
 import terminus.content.Link;
 import terminus.module.ModuleManager;
 import terminus.module.NusModule;
@@ -26,15 +28,14 @@ public class Timetable {
     /**
      * Lists all the schedule for a particular day.
      *
-     * @param contentManager ContentManager object containing all user's links.
+     * @param links          List containing all user's links of a module.
      * @param currentDay     The particular day at which the schedules are selected from.
      * @return String String object containing all the schedules for the particular day.
      */
-    private ArrayList<Link> listDailySchedule(ContentManager<Link> contentManager, String currentDay) {
+    private ArrayList<Link> listDailySchedule(List<Link> links, String currentDay) {
         ArrayList<Link> dailySchedule = new ArrayList<>();
 
-        contentManager.getContents()
-                .stream()
+        links.stream()
                 .filter(x -> x.getDay().equalsIgnoreCase(currentDay))
                 .sorted(Comparator.comparing(Link::getStartTime))
                 .forEach(x -> dailySchedule.add(x));
@@ -44,11 +45,17 @@ public class Timetable {
 
     /**
      * Retrieve and format all the user's schedule for the particular day.
+     * The formatted schedule is reused until a module or schedule changes.
      *
      * @param today The particular day at which the schedules are selected from.
      * @return String String object containing all the schedules for the day
      */
     public String getDailySchedule(String today) {
+        return moduleManager.getDayCache().get(today.toLowerCase(Locale.ROOT), moduleManager::getScheduleVersion,
+                () -> formatDailySchedule(today));
+    }
+
+    private String formatDailySchedule(String today) {
         StringBuilder schedule = new StringBuilder();
         String[] modules = moduleManager.getAllModules();
         ArrayList<Link> dailySchedule = new ArrayList<>();
@@ -56,9 +63,10 @@ public class Timetable {
 
         stream.forEach(x -> {
             NusModule module = moduleManager.getModule(x);
-            ContentManager<Link> contentManager = module.getContentManager(Link.class);
-            assert contentManager != null;
-            dailySchedule.addAll(listDailySchedule(contentManager, today));
+            // Modules whose links are not loaded yet are listed from their saved schedule without loading them
+            List<Link> links = module.getSchedule();
+            assert links != null;
+            dailySchedule.addAll(listDailySchedule(links, today));
             TerminusLogger.info(String.format("Successfully acquire %s's schedule for %s", x, today));
         });
 
@@ -78,15 +86,21 @@ public class Timetable {
 
     /**
      * Retrieve and format all the user's schedule for the week.
+     * The formatted schedule is reused until a module or schedule changes.
      *
      * @return String string object containing all the user's schedule for the week
      */
     public String getWeeklySchedule() {
+        return moduleManager.getWeekCache().get(CommonFormat.CACHE_WEEK, moduleManager::getScheduleVersion,
+                this::formatWeeklySchedule);
+    }
+
+    private String formatWeeklySchedule() {
         StringBuilder dailyResult = new StringBuilder();
 
         for (DaysOfWeekEnum currentDay : DaysOfWeekEnum.values()) {
             String today = currentDay.toString();
-            String dailySchedule = getDailySchedule(today);
+            String dailySchedule = formatDailySchedule(today);
             if (!isStringNullOrEmpty(dailySchedule)) {
                 assert dailySchedule != null;
                 String header = String.format("%s:\n", today);
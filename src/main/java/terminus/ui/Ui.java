@@ -1,8 +1,14 @@
 package terminus.ui;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.Scanner;
+import terminus.command.CommandResult;
+import terminus.common.TerminusLogger;
 import terminus.module.ModuleManager;
 import terminus.parser.CommandParser;
 
@@ -10,6 +16,7 @@ public class Ui {
 
     private static final String PROMPT = "[%s] >>> ";
     private static final Ui UI = new Ui();
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
 
     private final Scanner scanner;
 
@@ -58,6 +65,23 @@ public class Ui {
         Arrays.stream(strings).forEach(System.out::println);
     }
 
+    /**
+     * Prints the message of a command result. The message is written through a buffer as it is formatted, so a long
+     * list is never held as a single string.
+     *
+     * @param commandResult The result whose message is printed.
+     */
+    public void printResult(CommandResult commandResult) {
+        // The writer is not closed, as that would close System.out
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out), OUTPUT_BUFFER_SIZE);
+        try {
+            commandResult.writeMessage(out);
+            out.flush();
+        } catch (IOException e) {
+            TerminusLogger.warning("Failed to print command result", e);
+        }
+    }
+
     /**
      * Prints the exit message.
      */
@@ -0,0 +1,45 @@
+package terminus.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class RenderCacheTest {
+
+    @Test
+    void get_sameVersion_rendersOnce() {
+        RenderCache<String> cache = new RenderCache<>("test", 2);
+        AtomicInteger renderCount = new AtomicInteger();
+        assertEquals("a1", cache.get("a", () -> 1, () -> "a" + renderCount.incrementAndGet()));
+        assertEquals("a1", cache.get("a", () -> 1, () -> "a" + renderCount.incrementAndGet()));
+        assertEquals("a2", cache.get("a", () -> 2, () -> "a" + renderCount.incrementAndGet()));
+        assertNull(cache.get("b", () -> 1, () -> null));
+        assertNull(cache.get("b", () -> 1, () -> "b"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0.4, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void get_overCapacity_dropsLeastRecentlyUsed() {
+        RenderCache<String> cache = new RenderCache<>("test", 2);
+        assertEquals(0, cache.getHitRate(), 1e-9);
+        cache.get("a", () -> 1, () -> "a");
+        cache.get("b", () -> 1, () -> "b");
+        cache.get("a", () -> 1, () -> "a");
+        cache.get("c", () -> 1, () -> "c");
+        assertEquals("b2", cache.get("b", () -> 1, () -> "b2"));
+        assertEquals("c", cache.get("c", () -> 1, () -> "c2"));
+        cache.clear();
+        assertEquals("c3", cache.get("c", () -> 1, () -> "c3"));
+    }
+
+    @Test
+    void nextVersion_increases() {
+        long version = RenderCache.nextVersion();
+        assertTrue(RenderCache.nextVersion() > version);
+    }
+}
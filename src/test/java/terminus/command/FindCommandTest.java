@@ -0,0 +1,54 @@
+package terminus.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.common.Messages;
+import terminus.content.Link;
+import terminus.content.Note;
+import terminus.exception.InvalidArgumentException;
+import terminus.exception.InvalidCommandException;
+import terminus.module.ModuleManager;
+import terminus.parser.MainCommandParser;
+
+public class FindCommandTest {
+
+    private MainCommandParser mainCommandParser;
+    private ModuleManager moduleManager;
+
+    @BeforeEach
+    void setUp() {
+        this.mainCommandParser = MainCommandParser.getInstance();
+        this.moduleManager = new ModuleManager();
+        moduleManager.addModule("test1");
+        moduleManager.getModule("test1").getContentManager(Note.class).add(new Note("week1", "Sorting (part 1)"));
+        moduleManager.getModule("test1").getContentManager(Link.class).add(new Link("sorting lecture", "Monday",
+                LocalTime.of(10, 0), 2, "https://zoom.us/test"));
+    }
+
+    @Test
+    void execute_success() throws InvalidArgumentException, InvalidCommandException {
+        Command findCommand = mainCommandParser.parseCommand("find sORTING");
+        assertEquals(String.format(Messages.MESSAGE_RESPONSE_FIND, "sORTING")
+                        + String.format(Messages.MESSAGE_RESPONSE_SEARCH_RESULT, 1, "TEST1", "note", 1, "week1")
+                        + String.format(Messages.MESSAGE_RESPONSE_SEARCH_RESULT, 2, "TEST1", "schedule", 1,
+                        "sorting lecture"),
+                findCommand.execute(moduleManager).getMessage()[0]);
+
+        findCommand = mainCommandParser.parseCommand("find (part");
+        assertEquals(String.format(Messages.MESSAGE_RESPONSE_FIND, "(part")
+                        + String.format(Messages.MESSAGE_RESPONSE_SEARCH_RESULT, 1, "TEST1", "note", 1, "week1"),
+                findCommand.execute(moduleManager).getMessage()[0]);
+    }
+
+    @Test
+    void execute_noResults_success() throws InvalidArgumentException, InvalidCommandException {
+        Command findCommand = mainCommandParser.parseCommand("find graphs");
+        assertEquals(String.format(Messages.MESSAGE_RESPONSE_FIND_EMPTY, "graphs"),
+                findCommand.execute(moduleManager).getMessage()[0]);
+        assertThrows(InvalidArgumentException.class, () -> mainCommandParser.parseCommand("find"));
+    }
+}
@@ -39,6 +39,17 @@ public class GoCommandTest {
         assertTrue(cmdResult.getNewCommandParser() instanceof ModuleWorkspaceCommandParser);
     }
 
+    @Test
+    void execute_goNameFragment_success() throws InvalidArgumentException, InvalidCommandException {
+        moduleManager.addModule("CS2113");
+        moduleManager.addModule("CS2101");
+        Command cmd = commandParser.parseCommand("go 2113 note");
+        CommandResult cmdResult = cmd.execute(moduleManager);
+        assertEquals("CS2113", ((NoteCommandParser) cmdResult.getNewCommandParser()).getModuleName());
+        Command ambiguousCmd = commandParser.parseCommand("go cs21");
+        assertThrows(InvalidArgumentException.class, () -> ambiguousCmd.execute(moduleManager));
+    }
+
     @Test
     void execute_go_throwsException() throws InvalidArgumentException, InvalidCommandException {
         Command cmd = commandParser.parseCommand("go not_a_test");
@@ -0,0 +1,60 @@
+package terminus.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.common.Messages;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.exception.InvalidArgumentException;
+import terminus.exception.InvalidCommandException;
+import terminus.module.ModuleManager;
+import terminus.parser.MainCommandParser;
+
+public class SearchCommandTest {
+
+    private MainCommandParser mainCommandParser;
+    private ModuleManager moduleManager;
+
+    @BeforeEach
+    void setUp() {
+        this.mainCommandParser = MainCommandParser.getInstance();
+        this.moduleManager = new ModuleManager();
+        moduleManager.addModule("test1");
+        moduleManager.addModule("test2");
+        moduleManager.getModule("test1").getContentManager(Note.class).add(new Note("week1", "sorting"));
+        moduleManager.getModule("test1").getContentManager(Note.class).add(new Note("week2", "graphs"));
+        moduleManager.getModule("test2").getContentManager(Question.class).add(new Question("graphs?", "yes"));
+    }
+
+    @Test
+    void execute_success() throws InvalidArgumentException, InvalidCommandException {
+        Command searchCommand = mainCommandParser.parseCommand("search sorting");
+        assertEquals(String.format(Messages.MESSAGE_RESPONSE_SEARCH, "sorting")
+                        + String.format(Messages.MESSAGE_RESPONSE_SEARCH_RESULT, 1, "TEST1", "note", 1, "week1"),
+                searchCommand.execute(moduleManager).getMessage()[0]);
+
+        moduleManager.getModule("test1").getContentManager(Note.class).deleteContent(1);
+        searchCommand = mainCommandParser.parseCommand("search GRAPHS");
+        String message = searchCommand.execute(moduleManager).getMessage()[0];
+        assertEquals(3, message.split("\n").length);
+        assertTrue(message.contains("[TEST1] note 1: week2"));
+        assertTrue(message.contains("[TEST2] question 1: graphs?"));
+    }
+
+    @Test
+    void execute_noResults_success() throws InvalidArgumentException, InvalidCommandException {
+        Command searchCommand = mainCommandParser.parseCommand("search trees");
+        assertEquals(String.format(Messages.MESSAGE_RESPONSE_SEARCH_EMPTY, "trees"),
+                searchCommand.execute(moduleManager).getMessage()[0]);
+    }
+
+    @Test
+    void parseArguments_noKeywords_exceptionThrown() {
+        assertThrows(InvalidArgumentException.class, () -> mainCommandParser.parseCommand("search"));
+        assertThrows(InvalidArgumentException.class, () -> mainCommandParser.parseCommand("search   "));
+    }
+}
@@ -0,0 +1,50 @@
+package terminus.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.common.CommonFormat;
+import terminus.common.Messages;
+import terminus.content.Link;
+import terminus.exception.InvalidArgumentException;
+import terminus.exception.InvalidCommandException;
+import terminus.module.ModuleManager;
+import terminus.parser.MainCommandParser;
+import terminus.timetable.Timetable;
+
+public class StatsCommandTest {
+
+    private MainCommandParser mainCommandParser;
+    private ModuleManager moduleManager;
+
+    @BeforeEach
+    void setUp() {
+        this.mainCommandParser = MainCommandParser.getInstance();
+        this.moduleManager = new ModuleManager();
+        moduleManager.addModule("test1");
+    }
+
+    @Test
+    void execute_repeatedSchedules_hitsCache() throws InvalidArgumentException, InvalidCommandException {
+        Timetable timetable = new Timetable(moduleManager);
+        assertEquals(timetable.checkEmptySchedule(null, null), mainCommandParser.parseCommand("timetable")
+                .execute(moduleManager).getMessage()[0]);
+        moduleManager.getModule("test1").getContentManager(Link.class).add(new Link("lecture", "Monday",
+                LocalTime.of(10, 0), 2, "https://zoom.us/test"));
+        String schedule = timetable.getDailySchedule("monday");
+        assertSame(schedule, timetable.getDailySchedule("Monday"));
+        assertSame(timetable.getWeeklySchedule(), timetable.getWeeklySchedule());
+
+        String cacheFormat = Messages.MESSAGE_RESPONSE_STATS_CACHE;
+        Command statsCommand = mainCommandParser.parseCommand("stats");
+        assertEquals(Messages.MESSAGE_RESPONSE_STATS
+                        + String.format(cacheFormat, CommonFormat.CACHE_DAY, 1, 1, 50.0)
+                        + String.format(cacheFormat, CommonFormat.CACHE_WEEK, 1, 2, 100 / 3.0),
+                statsCommand.execute(moduleManager).getMessage()[0]);
+        assertThrows(InvalidArgumentException.class, () -> mainCommandParser.parseCommand("stats all"));
+    }
+}
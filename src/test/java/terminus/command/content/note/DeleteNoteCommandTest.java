@@ -57,4 +57,16 @@ public class DeleteNoteCommandTest {
         Command deleteCommand = commandParser.parseCommand("delete 100");
         assertThrows(InvalidArgumentException.class, () -> deleteCommand.execute(moduleManager));
     }
+
+    @Test
+    void execute_nameFragment_success() throws InvalidCommandException, InvalidArgumentException {
+        commandParser.parseCommand("add \"Tutorial 1\" \"test\"").execute(moduleManager);
+        commandParser.parseCommand("add \"Lecture 5\" \"test\"").execute(moduleManager);
+        commandParser.parseCommand("delete \"lec\"").execute(moduleManager);
+        assertEquals(1, moduleManager.getModule(tempModule).getContentManager(type).getTotalContents());
+        assertEquals("Tutorial 1", moduleManager.getModule(tempModule).getContentManager(type).getContents().get(0)
+                .getName());
+        Command deleteCommand = commandParser.parseCommand("delete \"lec\"");
+        assertThrows(InvalidArgumentException.class, () -> deleteCommand.execute(moduleManager));
+    }
 }
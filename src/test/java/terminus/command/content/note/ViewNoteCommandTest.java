@@ -5,17 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import terminus.command.Command;
+import terminus.TestFilePath;
 import terminus.command.CommandResult;
+import terminus.common.CommonFormat;
 import terminus.common.Messages;
 import terminus.common.TestUtils;
+import terminus.content.ContentManager;
 import terminus.content.Note;
 import terminus.exception.InvalidArgumentException;
 import terminus.exception.InvalidCommandException;
 import terminus.module.ModuleManager;
 import terminus.parser.NoteCommandParser;
+import terminus.storage.NoteStorage;
 
 public class ViewNoteCommandTest {
 
@@ -92,4 +98,88 @@ public class ViewNoteCommandTest {
         assertThrows(InvalidArgumentException.class,
             () -> commandParser.parseCommand("view 6").execute(moduleManager));
     }
+
+    @Test
+    void execute_viewLineRange_success()
+        throws InvalidCommandException, InvalidArgumentException, IOException {
+        moduleManager.getModule(tempModule).getContentManager(type).add(new Note("test", "a\nb\r\nc\nd\n"));
+
+        Command viewCommand = commandParser.parseCommand("view 1 2-3");
+        CommandResult viewResult = viewCommand.execute(moduleManager);
+        assertEquals(String.format(Messages.MESSAGE_RESPONSE_NOTE_LINES, "test", 2, 3, 4, "b\nc").trim(),
+            TestUtils.generateCommandOutputString(viewResult.getMessage()));
+
+        viewCommand = commandParser.parseCommand("view 1 3-10");
+        viewResult = viewCommand.execute(moduleManager);
+        assertEquals(String.format(Messages.MESSAGE_RESPONSE_NOTE_LINES, "test", 3, 4, 4, "c\nd").trim(),
+            TestUtils.generateCommandOutputString(viewResult.getMessage()));
+    }
+
+    @Test
+    void execute_viewPage_success()
+        throws InvalidCommandException, InvalidArgumentException, IOException {
+        StringBuilder data = new StringBuilder();
+        for (int i = 1; i <= CommonFormat.NOTE_PAGE_LINE_COUNT + 3; i++) {
+            data.append(i).append("\n");
+        }
+        moduleManager.getModule(tempModule).getContentManager(type).add(new Note("test", data.toString()));
+        int lineCount = CommonFormat.NOTE_PAGE_LINE_COUNT + 3;
+        int firstLine = CommonFormat.NOTE_PAGE_LINE_COUNT + 1;
+
+        Command viewCommand = commandParser.parseCommand("view 1 page 2");
+        CommandResult viewResult = viewCommand.execute(moduleManager);
+        assertEquals(String.format(Messages.MESSAGE_RESPONSE_NOTE_LINES, "test", firstLine, lineCount, lineCount,
+            firstLine + "\n" + (firstLine + 1) + "\n" + (firstLine + 2)).trim(),
+            TestUtils.generateCommandOutputString(viewResult.getMessage()));
+        assertThrows(InvalidArgumentException.class, () -> commandParser.parseCommand("view 1 page 0"));
+        assertThrows(InvalidArgumentException.class,
+            () -> commandParser.parseCommand("view 1 page 3").execute(moduleManager));
+    }
+
+    @Test
+    void execute_viewLineRange_exceptionThrown()
+        throws InvalidCommandException, InvalidArgumentException, IOException {
+        moduleManager.getModule(tempModule).getContentManager(type).add(new Note("test", "a\nb"));
+
+        assertThrows(InvalidArgumentException.class, () -> commandParser.parseCommand("view 1 3-2"));
+        assertThrows(InvalidArgumentException.class, () -> commandParser.parseCommand("view 1 0-2"));
+        assertThrows(InvalidArgumentException.class, () -> commandParser.parseCommand("view a 1-2"));
+        assertThrows(InvalidArgumentException.class,
+            () -> commandParser.parseCommand("view 1 3-4").execute(moduleManager));
+        assertThrows(InvalidArgumentException.class,
+            () -> commandParser.parseCommand("view 2 1-2").execute(moduleManager));
+    }
+
+    @Test
+    void execute_viewLargeNote_firstLinesShown()
+        throws InvalidCommandException, InvalidArgumentException, IOException {
+        Path folderPath = TestFilePath.RESOURCE_FOLDER.resolve("LARGE");
+        Path filePath = folderPath.resolve("large.txt");
+        StringBuilder data = new StringBuilder();
+        for (int i = 1; data.length() <= CommonFormat.MAX_FILE_SIZE; i++) {
+            data.append(i).append("\n");
+        }
+        Files.createDirectories(folderPath);
+        Files.writeString(filePath, data.toString());
+        try {
+            ContentManager<Note> notes = moduleManager.getModule(tempModule).getContentManager(type);
+            notes.add(new Note("large", filePath, new NoteStorage(TestFilePath.RESOURCE_FOLDER)));
+            int lineCount = data.toString().split("\n").length;
+
+            Command viewCommand = commandParser.parseCommand("view 1");
+            String result = TestUtils.generateCommandOutputString(viewCommand.execute(moduleManager).getMessage());
+            String firstLines = data.substring(0, data.indexOf("\n" + (CommonFormat.NOTE_PAGE_LINE_COUNT + 1)));
+            assertEquals(String.format(Messages.MESSAGE_RESPONSE_NOTE_LINES, "large", 1,
+                CommonFormat.NOTE_PAGE_LINE_COUNT, lineCount, firstLines)
+                + String.format(Messages.MESSAGE_RESPONSE_LARGE_NOTE, 1, 1), result);
+
+            viewCommand = commandParser.parseCommand("view 1 " + lineCount + "-" + lineCount);
+            result = TestUtils.generateCommandOutputString(viewCommand.execute(moduleManager).getMessage());
+            assertEquals(String.format(Messages.MESSAGE_RESPONSE_NOTE_LINES, "large", lineCount, lineCount,
+                lineCount, lineCount).trim(), result);
+        } finally {
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(folderPath);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package terminus.command.content.question;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import terminus.command.Command;
 import terminus.command.CommandResult;
+import terminus.common.CommonFormat;
 import terminus.common.Messages;
 import terminus.common.TestUtils;
 import terminus.content.Question;
@@ -57,6 +59,29 @@ public class ViewQuestionCommandTest {
         assertEquals(stringBuilder, TestUtils.generateCommandOutputString(viewResult.getMessage()));
     }
 
+    @Test
+    void execute_viewPage_success()
+            throws InvalidCommandException, InvalidArgumentException, IOException {
+        int questionCount = CommonFormat.CONTENT_PAGE_SIZE * 2 + 1;
+        for (int i = 1; i <= questionCount; i++) {
+            commandParser.parseCommand("add \"question" + i + "\" \"answer" + i + "\"").execute(moduleManager);
+        }
+        String firstPage = commandParser.parseCommand("view").execute(moduleManager).getMessage()[0];
+        assertTrue(firstPage.contains("\n1. question1\n"));
+        assertFalse(firstPage.contains(CommonFormat.CONTENT_PAGE_SIZE + 1 + ". "));
+        assertTrue(firstPage.contains(String.format(Messages.MESSAGE_RESPONSE_CONTENT_PAGE, 1, 3)));
+
+        String lastPage = commandParser.parseCommand("view --page 3").execute(moduleManager).getMessage()[0];
+        assertTrue(lastPage.contains("\n" + questionCount + ". question" + questionCount + "\n"));
+        assertFalse(lastPage.contains("\n1. question1\n"));
+        assertTrue(lastPage.contains(String.format(Messages.MESSAGE_RESPONSE_CONTENT_PAGE, 3, 3)));
+
+        assertThrows(InvalidArgumentException.class, () -> commandParser.parseCommand("view --page 0"));
+        assertThrows(InvalidArgumentException.class, () -> commandParser.parseCommand("view --page a"));
+        assertThrows(InvalidArgumentException.class,
+            () -> commandParser.parseCommand("view --page 4").execute(moduleManager));
+    }
+
     @Test
     void execute_viewOne_success()
             throws InvalidCommandException, InvalidArgumentException, IOException {
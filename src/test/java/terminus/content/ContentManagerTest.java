@@ -1,11 +1,14 @@
 package terminus.content;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import terminus.exception.InvalidArgumentException;
@@ -126,4 +129,156 @@ public class ContentManagerTest {
         assertTrue(result.contains(link3.getViewDescription()));
     }
 
+    @Test
+    void writeContents_pages_sameAsList() throws IOException {
+        for (ContentListEnum listType : ContentListEnum.values()) {
+            ContentManager<Note> contentManager = new ContentManager<>(listType);
+            assertEquals(0, contentManager.getPageCount(3));
+            for (int i = 1; i <= 7; i++) {
+                contentManager.add(new Note("test" + i, "test" + i));
+            }
+            assertEquals(3, contentManager.getPageCount(3));
+            StringBuilder pages = new StringBuilder();
+            assertEquals(3, contentManager.writeContents(pages, 1, 3));
+            assertEquals(3, contentManager.writeContents(pages, 2, 3));
+            assertEquals(1, contentManager.writeContents(pages, 3, 3));
+            assertEquals(contentManager.listAllContents(), pages.toString());
+            assertEquals(0, contentManager.writeContents(pages, 4, 3));
+            assertEquals(0, contentManager.writeContents(pages, 0, 3));
+        }
+    }
+
+    @Test
+    void isModified_mutations_success() throws InvalidArgumentException {
+        assertFalse(noteContentManager.isModified());
+        noteContentManager.add(new Note("test1", "test1"));
+        assertTrue(noteContentManager.isModified());
+        noteContentManager.setModified(false);
+        noteContentManager.getContentData(1);
+        noteContentManager.listAllContents();
+        assertFalse(noteContentManager.isModified());
+        noteContentManager.deleteContent(1);
+        assertTrue(noteContentManager.isModified());
+        noteContentManager.setModified(false);
+        noteContentManager.purgeData();
+        assertTrue(noteContentManager.isModified());
+    }
+
+    @Test
+    void isDuplicateName_mutations_success() throws InvalidArgumentException {
+        Note note = new Note("Test1", "test1");
+        noteContentManager.add(note);
+        assertTrue(noteContentManager.isDuplicateName("tEST1"));
+        assertSame(note, noteContentManager.getContent("test1"));
+        assertFalse(noteContentManager.isDuplicateName("test2"));
+
+        Note newNote = new Note("test1", "test2");
+        noteContentManager.replace(note, newNote);
+        assertSame(newNote, noteContentManager.getContent("TEST1"));
+        noteContentManager.deleteContent(1);
+        assertFalse(noteContentManager.isDuplicateName("test1"));
+
+        ArrayList<Note> notes = new ArrayList<>();
+        notes.add(new Note("test3", "test3"));
+        noteContentManager.setContent(notes);
+        assertTrue(noteContentManager.isDuplicateName("test3"));
+        assertTrue(noteContentManager.remove(notes.get(0)));
+        assertFalse(noteContentManager.isDuplicateName("test3"));
+        noteContentManager.add(new Note("test4", "test4"));
+        noteContentManager.purgeData();
+        assertFalse(noteContentManager.isDuplicateName("test4"));
+    }
+
+    @Test
+    void deleteContent_duplicateNames_nextContentIndexed() throws InvalidArgumentException {
+        ArrayList<Note> notes = new ArrayList<>();
+        notes.add(new Note("test", "test1"));
+        notes.add(new Note("TEST", "test2"));
+        noteContentManager.setContent(notes);
+        noteContentManager.deleteContent(1);
+        assertEquals("test2", noteContentManager.getContent("test").getData());
+    }
+
+    @Test
+    void remove_manyDuplicateNames_firstRemainingIndexed() throws InvalidArgumentException {
+        for (ContentListEnum listType : ContentListEnum.values()) {
+            ContentManager<Note> contentManager = new ContentManager<>(listType);
+            ArrayList<Note> notes = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                Note note = new Note("test", "test" + i);
+                notes.add(note);
+                contentManager.add(note);
+            }
+            assertTrue(contentManager.remove(notes.get(2)));
+            assertSame(notes.get(0), contentManager.getContent("test"));
+            assertTrue(contentManager.remove(notes.get(0)));
+            assertSame(notes.get(1), contentManager.getContent("test"));
+            Note replacement = new Note("TEST", "new");
+            contentManager.replace(notes.get(1), replacement);
+            assertSame(replacement, contentManager.getContent("test"));
+            assertTrue(contentManager.remove(replacement));
+            assertTrue(contentManager.remove(notes.get(4)));
+            assertSame(notes.get(3), contentManager.getContent("test"));
+            assertEquals(1, contentManager.getTotalContents());
+            assertTrue(contentManager.remove(notes.get(3)));
+            assertFalse(contentManager.isDuplicateName("test"));
+        }
+    }
+
+    @Test
+    void deleteContent_treeList_sameAsArray() throws InvalidArgumentException {
+        ContentManager<Note> treeContentManager = new ContentManager<>(ContentListEnum.TREE);
+        for (int i = 1; i <= 5; i++) {
+            noteContentManager.add(new Note("test" + i, "test"));
+            treeContentManager.add(new Note("test" + i, "test"));
+        }
+        assertEquals("test2", treeContentManager.deleteContent(2));
+        assertEquals("test5", treeContentManager.deleteContent(4));
+        noteContentManager.deleteContent(2);
+        noteContentManager.deleteContent(4);
+        assertTrue(treeContentManager.getContents() instanceof IndexedTreeList);
+        assertEquals(noteContentManager.listAllContents(), treeContentManager.listAllContents());
+        assertFalse(treeContentManager.isDuplicateName("test2"));
+
+        ArrayList<Note> notes = new ArrayList<>();
+        notes.add(new Note("test6", "test"));
+        treeContentManager.setContent(notes);
+        assertTrue(treeContentManager.getContents() instanceof IndexedTreeList);
+        assertEquals("test6", treeContentManager.getContents().get(0).getName());
+    }
+
+    @Test
+    void getContentNumber_nameFragment_success() throws InvalidArgumentException {
+        noteContentManager.add(new Note("Tutorial 1", "test"));
+        noteContentManager.add(new Note("Lecture 5", "test"));
+        noteContentManager.add(new Note("Lecture 6", "test"));
+        assertEquals(1, noteContentManager.getContentNumber("tut"));
+        assertEquals(3, noteContentManager.getContentNumber("lecture 6"));
+        assertEquals(2, noteContentManager.getContentNumber("lectrue 5"));
+        assertThrows(InvalidArgumentException.class, () -> noteContentManager.getContentNumber("lec"));
+        assertThrows(InvalidArgumentException.class, () -> noteContentManager.getContentNumber("assignment"));
+
+        noteContentManager.deleteContent(1);
+        noteContentManager.add(new Note("Tutorial 2", "test"));
+        assertEquals(3, noteContentManager.getContentNumber("tut"));
+    }
+
+    @Test
+    void removeAndReplace_treeList_positionsFound() throws InvalidArgumentException {
+        ContentManager<Note> treeContentManager = new ContentManager<>(ContentListEnum.TREE);
+        ArrayList<Note> notes = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            Note note = new Note("test" + i, "test");
+            notes.add(note);
+            treeContentManager.add(note);
+        }
+        assertTrue(treeContentManager.remove(notes.get(4)));
+        assertFalse(treeContentManager.remove(notes.get(4)));
+        Note replacement = new Note("test10", "new");
+        treeContentManager.replace(notes.get(9), replacement);
+        assertSame(replacement, treeContentManager.getContents().get(8));
+        assertEquals(-1, treeContentManager.indexOf(notes.get(9)));
+        assertEquals(18, treeContentManager.indexOf(notes.get(19)));
+        assertEquals(9, treeContentManager.getContentNumber("test10"));
+    }
 }
@@ -0,0 +1,110 @@
+package terminus.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IndexedTreeListTest {
+
+    @Test
+    void randomOperations_sameAsArrayList() {
+        Random random = new Random(2103);
+        ArrayList<Integer> expected = new ArrayList<>();
+        IndexedTreeList<Integer> list = new IndexedTreeList<>();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(index, -i));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, list);
+        assertEquals(expected, new ArrayList<>(list));
+    }
+
+    @Test
+    void constructor_collection_sameOrder() {
+        ArrayList<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        IndexedTreeList<Integer> list = new IndexedTreeList<>(elements);
+        assertEquals(elements, list);
+        assertEquals(Integer.valueOf(500), list.get(500));
+        assertEquals(0, new IndexedTreeList<>(List.of()).size());
+    }
+
+    @Test
+    void iteratorRemove_success() {
+        IndexedTreeList<Integer> list = new IndexedTreeList<>(List.of(1, 2, 3, 4, 5, 6));
+        list.removeIf(number -> number % 2 == 0);
+        assertEquals(List.of(1, 3, 5), list);
+    }
+
+    @Test
+    void invalidIndex_exceptionThrown() {
+        IndexedTreeList<Integer> list = new IndexedTreeList<>(List.of(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, 1));
+    }
+
+    @Test
+    void iterator_listChanged_exceptionThrown() {
+        IndexedTreeList<Integer> list = new IndexedTreeList<>(List.of(1, 2));
+        Iterator<Integer> iterator = list.iterator();
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void indexOfInstance_randomOperations_sameAsArrayList() {
+        Random random = new Random(2113);
+        ArrayList<Object> expected = new ArrayList<>();
+        IndexedTreeList<Object> list = new IndexedTreeList<>();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                Object element = new Object();
+                expected.add(index, element);
+                list.add(index, element);
+            } else if (operation == 2) {
+                Object element = expected.remove(random.nextInt(expected.size()));
+                list.remove(element);
+                assertEquals(-1, list.indexOfInstance(element));
+            } else {
+                int index = random.nextInt(expected.size());
+                Object element = new Object();
+                expected.set(index, element);
+                list.set(index, element);
+            }
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, list.indexOfInstance(expected.get(i)));
+        }
+    }
+
+    @Test
+    void indexOfInstance_repeatedElement_firstIndex() {
+        Object element = new Object();
+        IndexedTreeList<Object> list = new IndexedTreeList<>(List.of(new Object(), element, element));
+        list.remove(1);
+        assertEquals(1, list.indexOfInstance(element));
+        assertEquals(-1, list.indexOfInstance(new Object()));
+    }
+}
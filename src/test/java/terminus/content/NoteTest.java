@@ -0,0 +1,34 @@
+package terminus.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class NoteTest {
+
+    @Test
+    void getLines_success() {
+        Note note = new Note("test", "a\nb\r\n\nd\n");
+        assertEquals(4, note.getLineCount());
+        assertEquals("a", note.getLines(1, 1));
+        assertEquals("b\n", note.getLines(2, 3));
+        assertEquals("d", note.getLines(4, 4));
+    }
+
+    @Test
+    void getLines_noNewLineAtEnd_lastLineIncluded() {
+        Note note = new Note("test", "a\nb");
+        assertEquals(2, note.getLineCount());
+        assertEquals("a\nb", note.getLines(1, 2));
+        assertEquals(0, new Note("test", "").getLineCount());
+    }
+
+    @Test
+    void getLines_dataChanged_indexBuiltAgain() {
+        Note note = new Note("test", "a\nb");
+        assertEquals("b", note.getLines(2, 2));
+        note.setData("c\nd\ne");
+        assertEquals(3, note.getLineCount());
+        assertEquals("d\ne", note.getLines(2, 3));
+    }
+}
@@ -1,14 +1,22 @@
 package terminus.module;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import terminus.content.Content;
+import terminus.content.ContentManager;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.timetable.Timetable;
 
 public class ModuleManagerTest {
 
@@ -28,6 +36,30 @@ public class ModuleManagerTest {
         assertNull(moduleManager.getModule(TEMP_MODULE));
     }
 
+    @Test
+    void getScheduleVersion_unloadedModule_notLoaded() {
+        NusModule module = new NusModule();
+        module.setLoader(new ContentLoader() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T extends Content> void load(Class<T> type, ContentManager<T> contentManager) {
+                if (type == Link.class) {
+                    ((ContentManager<Link>) contentManager).add(new Link("lecture", "Monday", LocalTime.of(10, 0), 2,
+                            "https://zoom.us/test"));
+                }
+            }
+        });
+        moduleManager = new ModuleManager(Map.of(TEMP_MODULE.toUpperCase(), module));
+        moduleManager.getScheduleVersion();
+        assertFalse(module.isLoaded(Link.class));
+
+        Timetable timetable = new Timetable(moduleManager);
+        assertNotNull(timetable.getDailySchedule("Monday"));
+        assertTrue(module.isLoaded(Link.class));
+        assertNotNull(timetable.getDailySchedule("Monday"));
+        assertEquals(1, moduleManager.getDayCache().getHitCount());
+    }
+
     @Test
     void getAllModules_success() {
         IntStream.range(0, 5).forEach(i -> moduleManager.addModule(TEMP_MODULE + i));
@@ -46,4 +78,24 @@ public class ModuleManagerTest {
         moduleManager.removeModule("newName");
         assertNull(moduleManager.getModule("newName"));
     }
+
+    @Test
+    void getModifiedModules_success() {
+        moduleManager.addModule(TEMP_MODULE);
+        moduleManager.addModule("other");
+        assertTrue(moduleManager.isModified());
+        assertEquals(2, moduleManager.getModifiedModules().size());
+        moduleManager.clearModified();
+        assertFalse(moduleManager.isModified());
+
+        moduleManager.getModule(TEMP_MODULE).getContentManager(Question.class).add(new Question("q", "a"));
+        assertTrue(moduleManager.getModifiedModules().contains(TEMP_MODULE.toUpperCase()));
+        assertEquals(1, moduleManager.getModifiedModules().size());
+        moduleManager.clearModified();
+
+        moduleManager.removeModule("other");
+        assertTrue(moduleManager.isModified());
+        assertTrue(moduleManager.getRemovedModules().contains("OTHER"));
+        assertTrue(moduleManager.getModifiedModules().isEmpty());
+    }
 }
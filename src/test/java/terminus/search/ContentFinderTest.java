@@ -0,0 +1,66 @@
+package terminus.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.content.Link;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+public class ContentFinderTest {
+
+    private ModuleManager moduleManager;
+
+    @BeforeEach
+    void setUp() {
+        moduleManager = new ModuleManager();
+        for (int i = 0; i < 100; i++) {
+            moduleManager.addModule("CS" + (1000 + i));
+            NusModule module = moduleManager.getModule("CS" + (1000 + i));
+            module.getContentManager(Note.class).add(new Note("note", "graph " + i));
+            module.getContentManager(Note.class).add(new Note("Graphs", "trees"));
+            module.getContentManager(Link.class).add(new Link("lecture", "Monday", LocalTime.of(10, 0), 2,
+                    "https://zoom.us/graph"));
+            module.getContentManager(Question.class).add(new Question("What is a tree?", "A graph"));
+        }
+    }
+
+    @Test
+    void find_resultsInModuleOrder() {
+        List<FindResult> results = new ContentFinder().find(moduleManager, Pattern.compile("GRAPH",
+                Pattern.CASE_INSENSITIVE));
+        String[] moduleNames = moduleManager.getAllModules();
+        int[] indexes = {1, 2, 1, 1};
+        assertEquals(400, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            FindResult result = results.get(i);
+            assertEquals(moduleNames[i / 4], result.getModuleName());
+            assertEquals(indexes[i % 4], result.getIndex());
+        }
+        assertSame(Note.class, results.get(1).getType());
+        assertSame(Link.class, results.get(2).getType());
+        assertSame(Question.class, results.get(3).getType());
+    }
+
+    @Test
+    void find_singleThread_sameResults() {
+        Pattern pattern = Pattern.compile("graph 4");
+        List<FindResult> parallelResults = new ContentFinder().find(moduleManager, pattern);
+        List<FindResult> serialResults = new ContentFinder(new ForkJoinPool(1)).find(moduleManager, pattern);
+        assertEquals(11, parallelResults.size());
+        assertEquals(serialResults.size(), parallelResults.size());
+        for (int i = 0; i < serialResults.size(); i++) {
+            assertSame(serialResults.get(i).getContent(), parallelResults.get(i).getContent());
+        }
+        assertTrue(new ContentFinder().find(moduleManager, Pattern.compile("missing")).isEmpty());
+    }
+}
@@ -0,0 +1,125 @@
+package terminus.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.content.ContentListener;
+import terminus.content.ContentManager;
+import terminus.content.Note;
+import terminus.content.Question;
+import terminus.exception.InvalidArgumentException;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+public class SearchIndexTest {
+
+    private ModuleManager moduleManager;
+    private ContentManager<Note> notes;
+    private ContentManager<Question> questions;
+
+    @BeforeEach
+    void setUp() {
+        moduleManager = new ModuleManager();
+        moduleManager.addModule("CS2113");
+        notes = moduleManager.getModule("CS2113").getContentManager(Note.class);
+        questions = moduleManager.getModule("CS2113").getContentManager(Question.class);
+    }
+
+    @Test
+    void tokenize_success() {
+        assertEquals(List.of("uml", "diagrams", "2"), new ArrayList<>(SearchIndex.tokenize(
+                "UML diagrams, uml-2!").keySet()));
+        assertEquals(Integer.valueOf(2), SearchIndex.tokenize("UML diagrams, uml-2!").get("uml"));
+    }
+
+    @Test
+    void search_rankedByMatchedWordsAndFrequency() {
+        notes.add(new Note("week1", "software design"));
+        notes.add(new Note("week2", "design patterns design principles"));
+        questions.add(new Question("What is a design pattern?", "A reusable solution"));
+        List<SearchResult> results = moduleManager.getSearchIndex().search("design pattern", 10);
+        assertEquals(3, results.size());
+        assertEquals("What is a design pattern?", results.get(0).getContent().getName());
+        assertEquals("week2", results.get(1).getContent().getName());
+        assertEquals("week1", results.get(2).getContent().getName());
+        assertTrue(moduleManager.getSearchIndex().search("missing", 10).isEmpty());
+    }
+
+    @Test
+    void search_contentsChanged_indexUpdated() throws InvalidArgumentException {
+        SearchIndex searchIndex = moduleManager.getSearchIndex();
+        notes.add(new Note("week1", "testing"));
+        notes.add(new Note("week2", "testing"));
+        assertEquals(2, searchIndex.search("testing", 10).size());
+
+        notes.deleteContent(1);
+        List<SearchResult> results = searchIndex.search("testing", 10);
+        assertEquals(1, results.size());
+        assertEquals("week2", results.get(0).getContent().getName());
+
+        Note reloadedNote = new Note("week2", "debugging");
+        notes.replace(notes.getContents().get(0), reloadedNote);
+        assertTrue(searchIndex.search("testing", 10).isEmpty());
+        assertSame(reloadedNote, searchIndex.search("debugging", 10).get(0).getContent());
+
+        ArrayList<Note> newNotes = new ArrayList<>(notes.getContents());
+        newNotes.add(new Note("week3", "debugging"));
+        notes.setContent(newNotes);
+        assertEquals(2, searchIndex.search("debugging", 10).size());
+        assertEquals(2, searchIndex.getDocumentCount());
+    }
+
+    @Test
+    void search_modulesChanged_indexUpdated() {
+        notes.add(new Note("week1", "testing"));
+        SearchIndex searchIndex = moduleManager.getSearchIndex();
+        moduleManager.addModule("CS2101");
+        NusModule newModule = moduleManager.getModule("CS2101");
+        newModule.getContentManager(Question.class).add(new Question("testing?", "yes"));
+        assertEquals(2, searchIndex.search("testing", 10).size());
+
+        moduleManager.removeModule("CS2113");
+        List<SearchResult> results = searchIndex.search("testing", 10);
+        assertEquals(1, results.size());
+        assertSame(newModule, results.get(0).getModule());
+    }
+
+    @Test
+    void search_manyRemoved_remainingFound() throws InvalidArgumentException {
+        SearchIndex searchIndex = moduleManager.getSearchIndex();
+        for (int i = 0; i < 100; i++) {
+            notes.add(new Note("note" + i, "common word" + i));
+        }
+        for (int i = 0; i < 90; i++) {
+            notes.deleteContent(1);
+        }
+        assertEquals(10, searchIndex.search("common", 100).size());
+        assertEquals("note95", searchIndex.search("word95", 10).get(0).getContent().getName());
+        assertTrue(searchIndex.getIdCount() < 100);
+    }
+
+    @Test
+    void search_otherListenerAdded_indexUpdated() {
+        SearchIndex searchIndex = moduleManager.getSearchIndex();
+        List<Note> addedNotes = new ArrayList<>();
+        notes.addListener(new ContentListener<>() {
+            @Override
+            public void contentAdded(Note content) {
+                addedNotes.add(content);
+            }
+
+            @Override
+            public void contentRemoved(Note content) {
+                addedNotes.remove(content);
+            }
+        });
+        notes.add(new Note("week1", "testing"));
+        assertEquals(1, addedNotes.size());
+        assertEquals(1, searchIndex.search("testing", 10).size());
+    }
+}
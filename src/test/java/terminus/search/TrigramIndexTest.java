@@ -0,0 +1,44 @@
+package terminus.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex<String> trigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        trigramIndex = new TrigramIndex<>();
+        for (String name : List.of("Tutorial 1", "Lecture 5", "Lecture 5 Slides", "Tut", "Week 10 Lecture")) {
+            trigramIndex.add(name, name);
+        }
+    }
+
+    @Test
+    void find_substring_bestMatchFirst() {
+        assertEquals(List.of("Tut", "Tutorial 1"), trigramIndex.find("TUT"));
+        assertEquals(List.of("Lecture 5", "Lecture 5 Slides", "Week 10 Lecture"), trigramIndex.find("lec"));
+        assertEquals(List.of("Lecture 5", "Lecture 5 Slides"), trigramIndex.find("ture 5"));
+        assertEquals(List.of("Week 10 Lecture"), trigramIndex.find("10"));
+    }
+
+    @Test
+    void find_typo_similarNamesFound() {
+        assertEquals("Tutorial 1", trigramIndex.find("tutorail 1").get(0));
+        assertTrue(trigramIndex.find("assignment").isEmpty());
+        assertTrue(trigramIndex.find(" ").isEmpty());
+    }
+
+    @Test
+    void remove_success() {
+        trigramIndex.remove("Tut");
+        assertEquals(List.of("Tutorial 1"), trigramIndex.find("tut"));
+        trigramIndex.remove("missing");
+        assertEquals(List.of("Tutorial 1"), trigramIndex.find("tut"));
+    }
+}
@@ -0,0 +1,126 @@
+package terminus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.TestFilePath;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.exception.InvalidFileException;
+import terminus.module.NusModule;
+
+public class BinaryStorageTest {
+
+    private BinaryStorage binaryStorage;
+    private Path folderPath;
+
+    @BeforeEach
+    void setup() throws InvalidFileException {
+        this.binaryStorage = new BinaryStorage();
+        this.folderPath = TestFilePath.RESOURCE_FOLDER.resolve("binaryStorage");
+        binaryStorage.createFolder(folderPath);
+    }
+
+    @AfterEach
+    void reset() throws InvalidFileException {
+        binaryStorage.delete(folderPath);
+    }
+
+    @Test
+    void loadModule_savedModule_success() throws InvalidFileException {
+        NusModule module = new NusModule();
+        module.getContentManager(Link.class).add(new Link("tutorial 一", "Monday",
+                LocalTime.of(23, 59), 2, "https://zoom.us/"));
+        Question question = new Question("what is 1+1?", "2");
+        question.setWeight(0.25);
+        module.getContentManager(Question.class).add(question);
+        Path filePath = folderPath.resolve(BinaryStorage.MODULE_FILE_NAME);
+        binaryStorage.saveModule(filePath, module);
+
+        NusModule loaded = binaryStorage.loadModule(filePath);
+        Link link = loaded.getContentManager(Link.class).getContents().get(0);
+        assertEquals("tutorial 一", link.getName());
+        assertEquals("Monday", link.getDay());
+        assertEquals(LocalTime.of(23, 59), link.getStartTime());
+        assertEquals(2, link.getDuration());
+        assertEquals("https://zoom.us/", link.getLink());
+        Question loadedQuestion = loaded.getContentManager(Question.class).getContents().get(0);
+        assertEquals("what is 1+1?", loadedQuestion.getQuestion());
+        assertEquals("2", loadedQuestion.getAnswer());
+        assertEquals(0.25, loadedQuestion.getWeight());
+    }
+
+    @Test
+    void loadModule_nullFields_success() throws InvalidFileException {
+        NusModule module = new NusModule();
+        module.getContentManager(Link.class).add(new Link(null, null, null, 0, null));
+        Path filePath = folderPath.resolve(BinaryStorage.MODULE_FILE_NAME);
+        binaryStorage.saveModule(filePath, module);
+
+        Link link = binaryStorage.loadModule(filePath).getContentManager(Link.class).getContents().get(0);
+        assertNull(link.getName());
+        assertNull(link.getStartTime());
+        assertNull(link.getLink());
+    }
+
+    @Test
+    void loadModule_emptyModule_success() throws InvalidFileException {
+        Path filePath = folderPath.resolve(BinaryStorage.MODULE_FILE_NAME);
+        binaryStorage.saveModule(filePath, new NusModule());
+
+        NusModule loaded = binaryStorage.loadModule(filePath);
+        assertEquals(0, loaded.getContentManager(Link.class).getTotalContents());
+        assertEquals(0, loaded.getContentManager(Question.class).getTotalContents());
+        assertFalse(loaded.isModified());
+    }
+
+    @Test
+    void loadModule_invalidFile_exceptionThrown() throws InvalidFileException {
+        Path filePath = folderPath.resolve(BinaryStorage.MODULE_FILE_NAME);
+        binaryStorage.writeFile(filePath, "{\"contentMap\": {}}");
+        assertThrows(InvalidFileException.class, () -> binaryStorage.loadModule(filePath));
+    }
+
+    @Test
+    void loadModule_truncatedFile_exceptionThrown() throws IOException, InvalidFileException {
+        NusModule module = new NusModule();
+        module.getContentManager(Question.class).add(new Question("what is 1+1?", "2"));
+        Path filePath = folderPath.resolve(BinaryStorage.MODULE_FILE_NAME);
+        byte[] data = saveModuleBytes(filePath, module);
+        binaryStorage.writeBytes(filePath, Arrays.copyOf(data, data.length - 4));
+        assertThrows(InvalidFileException.class, () -> binaryStorage.loadModule(filePath));
+    }
+
+    @Test
+    void loadModule_unsupportedVersion_exceptionThrown() throws IOException, InvalidFileException {
+        Path filePath = folderPath.resolve(BinaryStorage.MODULE_FILE_NAME);
+        byte[] data = saveModuleBytes(filePath, new NusModule());
+        data[5] = (byte) (BinaryStorage.VERSION + 1);
+        binaryStorage.writeBytes(filePath, data);
+        assertThrows(InvalidFileException.class, () -> binaryStorage.loadModule(filePath));
+    }
+
+    @Test
+    void loadModule_otherDataType_exceptionThrown() throws IOException, InvalidFileException {
+        Path filePath = folderPath.resolve(BinaryStorage.MODULE_FILE_NAME);
+        byte[] data = saveModuleBytes(filePath, new NusModule());
+        data[6] = 1;
+        binaryStorage.writeBytes(filePath, data);
+        assertThrows(InvalidFileException.class, () -> binaryStorage.loadModule(filePath));
+    }
+
+    private byte[] saveModuleBytes(Path filePath, NusModule module) throws IOException, InvalidFileException {
+        binaryStorage.saveModule(filePath, module);
+        return Files.readAllBytes(filePath);
+    }
+}
@@ -0,0 +1,176 @@
+package terminus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.Collection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.TestFilePath;
+import terminus.content.ContentManager;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.exception.InvalidFileException;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+public class JournalStorageTest {
+
+    private static final String JSON_FILE = "journal.json";
+
+    private JournalStorage journalStorage;
+    private JsonStorage jsonStorage;
+    private ModuleManager moduleManager;
+    private Path folderPath;
+
+    private String tempModule = "test".toUpperCase();
+
+    @BeforeEach
+    void setup() throws InvalidFileException {
+        this.folderPath = TestFilePath.RESOURCE_FOLDER.resolve(tempModule);
+        this.journalStorage = new JournalStorage(folderPath, JSON_FILE);
+        this.jsonStorage = new JsonStorage(folderPath, JSON_FILE);
+        jsonStorage.createJson();
+        this.moduleManager = new ModuleManager();
+        moduleManager.addModule(tempModule);
+        moduleManager.getModule(tempModule).getContentManager(Question.class).add(new Question("q", "a"));
+    }
+
+    @AfterEach
+    void reset() throws InvalidFileException {
+        journalStorage.delete(folderPath);
+    }
+
+    @Test
+    void appendChanges_replay_success() throws InvalidFileException {
+        journalStorage.appendChanges(moduleManager);
+        moduleManager.clearModified();
+        moduleManager.addModule("other");
+        journalStorage.appendChanges(moduleManager);
+        moduleManager.clearModified();
+        moduleManager.removeModule(tempModule);
+        journalStorage.appendChanges(moduleManager);
+
+        ModuleManager loaded = new ModuleManager();
+        journalStorage.replay(loaded);
+        assertNull(loaded.getModule(tempModule));
+        assertNotNull(loaded.getModule("other"));
+    }
+
+    @Test
+    void appendEntries_moduleChangedAfterCreate_createdContentsWritten() throws InvalidFileException {
+        Collection<JournalEntry> entries = journalStorage.createEntries(moduleManager).values();
+        Question question = moduleManager.getModule(tempModule).getContentManager(Question.class).getContent("q");
+        question.setWeight(1);
+        moduleManager.getModule(tempModule).getContentManager(Question.class).add(new Question("q2", "a2"));
+        journalStorage.appendEntries(entries);
+
+        ModuleManager loaded = new ModuleManager();
+        journalStorage.replay(loaded);
+        ContentManager<Question> questions = loaded.getModule(tempModule).getContentManager(Question.class);
+        assertEquals(1, questions.getTotalContents());
+        assertEquals(0.5, questions.getContent("q").getWeight());
+    }
+
+    @Test
+    void createEntries_questionChanged_onlyQuestionsRecorded() {
+        moduleManager.clearModified();
+        moduleManager.getModule(tempModule).getContentManager(Question.class).add(new Question("q2", "a2"));
+        JournalEntry entry = journalStorage.createEntries(moduleManager).get(tempModule);
+        assertNull(entry.getLinks());
+        assertEquals(2, entry.getQuestions().size());
+    }
+
+    @Test
+    void compact_questionChanged_linksKept() throws InvalidFileException {
+        moduleManager.getModule(tempModule).getContentManager(Link.class)
+                .add(new Link("lecture", "Monday", LocalTime.of(10, 0), 2, "https://zoom.us/j/1"));
+        jsonStorage.saveJson(moduleManager);
+        moduleManager.clearModified();
+        moduleManager.getModule(tempModule).getContentManager(Question.class).add(new Question("q2", "a2"));
+        journalStorage.appendChanges(moduleManager);
+        journalStorage.compact(jsonStorage);
+
+        NusModule loaded = jsonStorage.loadModule(tempModule);
+        assertEquals(1, loaded.getContentManager(Link.class).getTotalContents());
+        assertEquals(2, loaded.getContentManager(Question.class).getTotalContents());
+    }
+
+    @Test
+    void appendChanges_noChanges_fileNotCreated() throws InvalidFileException {
+        moduleManager.clearModified();
+        journalStorage.appendChanges(moduleManager);
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        assertEquals(0, journalStorage.getJournalSize());
+    }
+
+    @Test
+    void replay_incompleteEntry_previousEntriesApplied() throws InvalidFileException {
+        journalStorage.appendChanges(moduleManager);
+        journalStorage.appendFile(journalStorage.getJournalFilePath(), "{\"action\":\"UPDATE\",\"module\":\"OT");
+
+        ModuleManager loaded = new ModuleManager();
+        journalStorage.replay(loaded);
+        assertEquals(1, loaded.getAllModules().length);
+        assertEquals(1, loaded.getModule(tempModule).getContentManager(Question.class).getTotalContents());
+    }
+
+    @Test
+    void appendChanges_afterIncompleteEntry_allEntriesReplayed() throws InvalidFileException {
+        journalStorage.appendChanges(moduleManager);
+        journalStorage.appendFile(journalStorage.getJournalFilePath(), "{\"action\":\"UPDATE\",\"module\":\"OT");
+        moduleManager.clearModified();
+
+        // A new JournalStorage cuts off the incomplete entry before appending, as on the next start
+        JournalStorage reopened = new JournalStorage(folderPath, JSON_FILE);
+        moduleManager.addModule("other");
+        reopened.appendChanges(moduleManager);
+
+        ModuleManager loaded = new ModuleManager();
+        reopened.replay(loaded);
+        assertEquals(2, loaded.getAllModules().length);
+        assertNotNull(loaded.getModule("other"));
+    }
+
+    @Test
+    void compact_malformedEntry_journalKept() throws InvalidFileException {
+        journalStorage.appendChanges(moduleManager);
+        journalStorage.appendFile(journalStorage.getJournalFilePath(), "not an entry" + System.lineSeparator());
+        moduleManager.clearModified();
+        moduleManager.addModule("other");
+        journalStorage.appendChanges(moduleManager);
+        long journalSize = journalStorage.getJournalSize();
+
+        assertThrows(InvalidFileException.class, () -> journalStorage.compact(jsonStorage));
+        assertEquals(journalSize, journalStorage.getJournalSize());
+        ModuleManager loaded = new ModuleManager();
+        journalStorage.replay(loaded);
+        assertEquals(2, loaded.getAllModules().length);
+    }
+
+    @Test
+    void compact_success() throws InvalidFileException {
+        jsonStorage.createFolder(folderPath.resolve(tempModule));
+        journalStorage.appendChanges(moduleManager);
+        assertTrue(journalStorage.getJournalSize() > 0);
+        journalStorage.compact(jsonStorage);
+        assertEquals(0, journalStorage.getJournalSize());
+
+        ModuleManager loaded = jsonStorage.loadJson();
+        assertEquals(1, loaded.getModule(tempModule).getContentManager(Question.class).getTotalContents());
+    }
+
+    @Test
+    void execute_invalidAction_exceptionThrown() {
+        assertThrows(InvalidFileException.class, () -> journalStorage.execute(moduleManager,
+                StorageActionEnum.EXPORT));
+    }
+}
@@ -10,13 +10,16 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import terminus.TestFilePath;
 import terminus.content.Link;
 import terminus.exception.InvalidFileException;
 import terminus.module.ModuleManager;
+import terminus.module.NusModule;
 
 public class JsonStorageTest {
 
@@ -28,6 +31,7 @@ public class JsonStorageTest {
     public static final String MALFORMED_FILE = TestFilePath.MALFORMED_FILE;
     public static final String VALID_FILE = TestFilePath.VALID_FILE;
     public static final String FAULTY_FOLDER = TestFilePath.FAULTY_FOLDER;
+    public static final String TEMP_FOLDER = "jsonStorage";
 
     @BeforeEach
     void setup() {
@@ -64,14 +68,98 @@ public class JsonStorageTest {
     }
 
     @Test
-    void saveJson_success() throws InvalidFileException, IOException {
+    void saveJson_success() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(TEMP_FOLDER);
+        jsonStorage = new JsonStorage(folderPath, SAVE_FILE);
+        jsonStorage.createJson();
         String tempModule = "test".toUpperCase();
         moduleManager.addModule(tempModule);
         moduleManager.getModule(tempModule).getContentManager(Link.class).add(new Link("test", "tuesday",
                 LocalTime.of(11, 11), 2, "https://zoom.us/"));
-        jsonStorage.setJsonFileName(SAVE_FILE);
         jsonStorage.saveJson(moduleManager);
-        assertTextFilesEqual(RESOURCE_FOLDER.resolve(SAVE_FILE), RESOURCE_FOLDER.resolve(VALID_FILE));
+        assertTrue(Files.exists(folderPath.resolve(tempModule).resolve(JsonStorage.MODULE_FILE_NAME)));
+
+        ModuleManager loaded = jsonStorage.loadJson();
+        assertEquals(1, loaded.getModule(tempModule).getContentManager(Link.class).getTotalContents());
+        jsonStorage.delete(folderPath);
+    }
+
+    @Test
+    void loadManifest_legacyFile_modulesMoved() throws InvalidFileException, IOException {
+        Path folderPath = RESOURCE_FOLDER.resolve(TEMP_FOLDER);
+        jsonStorage.createFolder(folderPath);
+        Files.copy(RESOURCE_FOLDER.resolve(VALID_FILE), folderPath.resolve(SAVE_FILE));
+        jsonStorage = new JsonStorage(folderPath, SAVE_FILE);
+        assertEquals(List.of("TEST"), jsonStorage.loadManifest().getModules());
+        assertEquals(1, jsonStorage.loadModule("TEST").getContentManager(Link.class).getTotalContents());
+        assertEquals(List.of("TEST"), jsonStorage.loadManifest().getModules());
+        jsonStorage.delete(folderPath);
+    }
+
+    @Test
+    void saveModules_onlyChangedModulesWritten() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(TEMP_FOLDER);
+        jsonStorage = new JsonStorage(folderPath, SAVE_FILE);
+        jsonStorage.createJson();
+        moduleManager.addModule("CS2113");
+        moduleManager.addModule("CS2101");
+        jsonStorage.saveJson(moduleManager);
+        Path unchangedFile = folderPath.resolve("CS2101").resolve(JsonStorage.MODULE_FILE_NAME);
+        jsonStorage.delete(unchangedFile);
+
+        HashMap<String, NusModule> changes = new HashMap<>();
+        changes.put("CS2113", null);
+        changes.put("MA1521", new NusModule());
+        jsonStorage.createFolder(folderPath.resolve("MA1521"));
+        jsonStorage.saveModules(changes);
+        assertEquals(List.of("CS2101", "MA1521"), jsonStorage.loadManifest().getModules());
+        assertEquals(Set.of("CS2101", "MA1521"), jsonStorage.loadManifest().getSchedules().keySet());
+        assertFalse(Files.exists(folderPath.resolve("CS2113").resolve(JsonStorage.MODULE_FILE_NAME)));
+        assertTrue(Files.exists(folderPath.resolve("MA1521").resolve(JsonStorage.MODULE_FILE_NAME)));
+        assertFalse(Files.exists(unchangedFile));
+        jsonStorage.delete(folderPath);
+    }
+
+    @Test
+    void saveModules_moduleFolderDeleted_folderNotCreated() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(TEMP_FOLDER);
+        jsonStorage = new JsonStorage(folderPath, SAVE_FILE);
+        jsonStorage.createJson();
+        moduleManager.addModule("CS2113");
+        jsonStorage.saveJson(moduleManager);
+        jsonStorage.delete(folderPath.resolve("CS2113"));
+
+        HashMap<String, NusModule> changes = new HashMap<>();
+        changes.put("CS2113", new NusModule());
+        jsonStorage.saveModules(changes);
+        assertFalse(Files.exists(folderPath.resolve("CS2113")));
+        assertEquals(List.of(), jsonStorage.loadManifest().getModules());
+        jsonStorage.delete(folderPath);
+    }
+
+    @Test
+    void saveJson_binaryFormat_jsonFileReplaced() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(TEMP_FOLDER);
+        jsonStorage = new JsonStorage(folderPath, SAVE_FILE);
+        jsonStorage.createJson();
+        moduleManager.addModule("CS2113");
+        moduleManager.getModule("CS2113").getContentManager(Link.class).add(new Link("test", "tuesday",
+                LocalTime.of(11, 11), 2, "https://zoom.us/"));
+        jsonStorage.saveJson(moduleManager);
+        Path jsonFile = folderPath.resolve("CS2113").resolve(JsonStorage.MODULE_FILE_NAME);
+        Path binaryFile = folderPath.resolve("CS2113").resolve(BinaryStorage.MODULE_FILE_NAME);
+        assertTrue(Files.exists(jsonFile));
+
+        jsonStorage.setStorageFormat(StorageFormatEnum.BINARY);
+        assertEquals(1, jsonStorage.loadModule("CS2113").getContentManager(Link.class).getTotalContents());
+        jsonStorage.saveJson(moduleManager);
+        assertFalse(Files.exists(jsonFile));
+        assertTrue(Files.exists(binaryFile));
+        assertEquals(1, jsonStorage.loadModule("CS2113").getContentManager(Link.class).getTotalContents());
+
+        jsonStorage.setStorageFormat(StorageFormatEnum.JSON);
+        assertEquals(1, jsonStorage.loadModule("CS2113").getContentManager(Link.class).getTotalContents());
+        jsonStorage.delete(folderPath);
     }
 
     @Test
@@ -81,13 +169,15 @@ public class JsonStorageTest {
 
     @Test
     void execute_success() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(TEMP_FOLDER);
+        jsonStorage = new JsonStorage(folderPath, SAVE_FILE);
         String tempModule = "test".toUpperCase();
         moduleManager.addModule(tempModule);
         moduleManager.getModule(tempModule).getContentManager(Link.class).add(new Link("test", "tuesday",
                 LocalTime.of(11, 11), 2, "https://zoom.us/"));
-        jsonStorage.setJsonFileName(SAVE_FILE);
         jsonStorage.execute(moduleManager, StorageActionEnum.CREATE);
         jsonStorage.execute(moduleManager, StorageActionEnum.UPDATE);
+        jsonStorage.delete(folderPath);
     }
 
     @Test
@@ -0,0 +1,51 @@
+package terminus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NoteCacheTest {
+
+    private NoteCache noteCache;
+
+    @BeforeEach
+    void setup() {
+        this.noteCache = new NoteCache(10);
+    }
+
+    @Test
+    void get_cachedData_success() {
+        noteCache.put(Path.of("a.txt"), "hello", 1, 5);
+        assertEquals("hello", noteCache.get(Path.of("a.txt"), 1, 5));
+        assertEquals(5, noteCache.getTotalSize());
+    }
+
+    @Test
+    void get_changedFile_removed() {
+        noteCache.put(Path.of("a.txt"), "hello", 1, 5);
+        assertNull(noteCache.get(Path.of("a.txt"), 2, 5));
+        assertEquals(0, noteCache.getTotalSize());
+    }
+
+    @Test
+    void put_cacheFull_leastRecentlyUsedEvicted() {
+        noteCache.put(Path.of("a.txt"), "aaaa", 1, 4);
+        noteCache.put(Path.of("b.txt"), "bbbb", 1, 4);
+        noteCache.get(Path.of("a.txt"), 1, 4);
+        noteCache.put(Path.of("c.txt"), "cccc", 1, 4);
+        assertEquals("aaaa", noteCache.get(Path.of("a.txt"), 1, 4));
+        assertNull(noteCache.get(Path.of("b.txt"), 1, 4));
+        assertEquals("cccc", noteCache.get(Path.of("c.txt"), 1, 4));
+        assertEquals(8, noteCache.getTotalSize());
+    }
+
+    @Test
+    void put_dataLargerThanCache_notCached() {
+        noteCache.put(Path.of("a.txt"), "a".repeat(11), 1, 11);
+        assertNull(noteCache.get(Path.of("a.txt"), 1, 11));
+        assertEquals(0, noteCache.getTotalSize());
+    }
+}
@@ -0,0 +1,67 @@
+package terminus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.TestFilePath;
+
+public class NoteLineIndexTest {
+
+    private Path filePath;
+
+    @BeforeEach
+    void setup() {
+        this.filePath = TestFilePath.RESOURCE_FOLDER.resolve("lineIndex.txt");
+    }
+
+    @AfterEach
+    void reset() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void readLines_manyLines_success() throws IOException {
+        StringBuilder data = new StringBuilder();
+        for (int i = 1; i <= 200; i++) {
+            data.append("line ").append(i).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        Files.writeString(filePath, data.toString(), StandardCharsets.UTF_8);
+        NoteLineIndex lineIndex = NoteLineIndex.build(filePath);
+        assertEquals(200, lineIndex.getLineCount());
+        assertEquals("line 1", lineIndex.readLines(1, 1));
+        assertEquals("line 64\nline 65\nline 66", lineIndex.readLines(64, 66));
+        assertEquals("line 199\nline 200", lineIndex.readLines(199, 200));
+    }
+
+    @Test
+    void readLines_noNewLineAtEnd_lastLineRead() throws IOException {
+        Files.writeString(filePath, "a\n\nb é", StandardCharsets.UTF_8);
+        NoteLineIndex lineIndex = NoteLineIndex.build(filePath);
+        assertEquals(3, lineIndex.getLineCount());
+        assertEquals("", lineIndex.readLines(2, 2));
+        assertEquals("b é", lineIndex.readLines(3, 3));
+    }
+
+    @Test
+    void build_emptyFile_noLines() throws IOException {
+        Files.writeString(filePath, "");
+        assertEquals(0, NoteLineIndex.build(filePath).getLineCount());
+    }
+
+    @Test
+    void isCurrent_fileChanged_false() throws IOException {
+        Files.writeString(filePath, "a\nb\n");
+        NoteLineIndex lineIndex = NoteLineIndex.build(filePath);
+        assertTrue(lineIndex.isCurrent(filePath.toFile()));
+        Files.writeString(filePath, "a\nb\nc\n");
+        assertFalse(lineIndex.isCurrent(filePath.toFile()));
+    }
+}
@@ -2,18 +2,26 @@ package terminus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 import terminus.TestFilePath;
+import terminus.common.CommonFormat;
 import terminus.content.ContentManager;
 import terminus.content.Note;
 import terminus.exception.InvalidFileException;
@@ -54,6 +62,15 @@ public class NoteStorageTest {
         assertTrue(Files.exists(filePath));
     }
 
+    @Test
+    void loadNotesInBackground_missingFolder_otherModulesLoaded() throws Exception {
+        noteStorage.createNoteFile(moduleManager, tempModule);
+        HashMap<String, Future<ContentManager<Note>>> pendingNotes =
+                noteStorage.loadNotesInBackground(List.of(tempModule, "MISSING"));
+        assertEquals("this is a test", pendingNotes.get(tempModule).get().getContents().get(0).getData());
+        assertThrows(ExecutionException.class, () -> pendingNotes.get("MISSING").get());
+    }
+
     @Test
     void removeNoteFile_success() throws InvalidFileException {
         Path folderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule);
@@ -88,6 +105,170 @@ public class NoteStorageTest {
         assertTrue(Files.exists(filePath));
     }
 
+    @Test
+    void saveAllNotes_unchangedNotes_notWritten() throws InvalidFileException {
+        assertEquals(1, noteStorage.saveAllNotes(moduleManager));
+        assertEquals(0, noteStorage.saveAllNotes(moduleManager));
+
+        Note note = moduleManager.getModule(tempModule).getContentManager(Note.class).getContents().get(0);
+        note.setData("this is a changed test");
+        assertTrue(note.isModified());
+        assertEquals(1, noteStorage.saveAllNotes(moduleManager));
+        assertFalse(note.isModified());
+
+        noteStorage.loadNoteIntoModuleManager(moduleManager, tempModule);
+        assertEquals(0, noteStorage.saveAllNotes(moduleManager));
+    }
+
+    @Test
+    void loadNotes_unchangedFiles_notProbedAgain() throws InvalidFileException {
+        int[] probeCount = new int[1];
+        noteStorage = new NoteStorage(TestFilePath.RESOURCE_FOLDER) {
+            @Override
+            protected boolean isValidTextFile(File file) {
+                probeCount[0]++;
+                return super.isValidTextFile(file);
+            }
+        };
+        noteStorage.saveAllNotes(moduleManager);
+        Path folderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule);
+        noteStorage.writeFile(noteStorage.getAppendPath(folderPath, "b.txt"), "another test");
+
+        ContentManager<Note> notes = new ContentManager<>();
+        noteStorage.loadNotes(tempModule, notes);
+        assertEquals(2, notes.getTotalContents());
+        assertEquals(2, probeCount[0]);
+        assertTrue(Files.exists(noteStorage.getAppendPath(folderPath, NoteStorage.MANIFEST_FILE_NAME)));
+
+        noteStorage.loadNotes(tempModule, notes);
+        assertEquals(2, notes.getTotalContents());
+        assertEquals(2, probeCount[0]);
+        assertFalse(notes.getContents().get(0).isModified());
+
+        noteStorage.writeFile(noteStorage.getAppendPath(folderPath, "c.txt"), "new test");
+        noteStorage.loadNotes(tempModule, notes);
+        assertEquals(3, notes.getTotalContents());
+        assertEquals(3, probeCount[0]);
+    }
+
+    @Test
+    void loadNotesInBackground_manifestSavedOnFirstUse() throws Exception {
+        noteStorage.createNoteFile(moduleManager, tempModule);
+        Path manifestPath = noteStorage.getAppendPath(
+                noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule), NoteStorage.MANIFEST_FILE_NAME);
+        noteStorage.loadNotesInBackground(List.of(tempModule)).get(tempModule).get();
+        assertFalse(Files.exists(manifestPath));
+        noteStorage.savePendingManifest(tempModule);
+        assertTrue(Files.exists(manifestPath));
+    }
+
+    @Test
+    void loadNotes_dataReadOnUse() throws InvalidFileException {
+        noteStorage.createNoteFile(moduleManager, tempModule);
+        ContentManager<Note> notes = new ContentManager<>();
+        noteStorage.loadNotes(tempModule, notes);
+        Note note = notes.getContents().get(0);
+        Path filePath = note.getFilePath();
+        assertEquals(noteStorage.getAppendPath(
+                noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule), "a.txt"), filePath);
+        assertEquals("this is a test", note.getData());
+
+        noteStorage.writeFile(filePath, "this is a changed test");
+        assertEquals("this is a changed test", note.getData());
+        assertFalse(note.isModified());
+
+        note.setData("this is a new test");
+        assertNull(note.getFilePath());
+        assertTrue(note.isModified());
+    }
+
+    @Test
+    void loadNotes_largeNote_linesReadOnUse() throws InvalidFileException {
+        Path folderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule);
+        noteStorage.createFolder(folderPath);
+        StringBuilder data = new StringBuilder();
+        for (int i = 1; data.length() <= CommonFormat.MAX_FILE_SIZE; i++) {
+            data.append("this is line ").append(i).append("\n");
+        }
+        noteStorage.writeFile(noteStorage.getAppendPath(folderPath, "large.txt"), data.toString());
+        ContentManager<Note> notes = new ContentManager<>();
+        noteStorage.loadNotes(tempModule, notes);
+        Note note = notes.getContents().get(0);
+        assertTrue(note.isLarge());
+        assertEquals(data.toString().split("\n").length, note.getLineCount());
+        assertEquals("this is line 1000\nthis is line 1001", note.getLines(1000, 1001));
+    }
+
+    @Test
+    void applyChanges_filesChangedOutside_onlyChangedNotesApplied() throws InvalidFileException {
+        noteStorage.createNoteFile(moduleManager, tempModule);
+        ContentManager<Note> notes = moduleManager.getModule(tempModule).getContentManager(Note.class);
+        Path folderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule);
+        Path newFilePath = noteStorage.getAppendPath(folderPath, "b.txt");
+        noteStorage.writeFile(newFilePath, "this is a new test");
+        assertEquals(1, noteStorage.applyChanges(moduleManager, List.of(newFilePath)));
+        assertEquals(2, notes.getTotalContents());
+        assertEquals("this is a new test", notes.getContents().get(1).getData());
+
+        Path filePath = noteStorage.getAppendPath(folderPath, "a.txt");
+        noteStorage.writeFile(filePath, "this is a changed test");
+        noteStorage.applyChanges(moduleManager, List.of(filePath));
+        assertEquals("this is a changed test", notes.getContents().get(0).getData());
+
+        noteStorage.delete(filePath);
+        noteStorage.applyChanges(moduleManager, List.of(filePath));
+        assertEquals(1, notes.getTotalContents());
+        assertEquals("b", notes.getContents().get(0).getName());
+    }
+
+    @Test
+    void applyChanges_dataFilesChanged_notesKept() throws InvalidFileException {
+        ContentManager<Note> notes = moduleManager.getModule(tempModule).getContentManager(Note.class);
+        notes.add(new Note("data", "this is a note named like the data files"));
+        noteStorage.createNoteFile(moduleManager, tempModule);
+        Path folderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule);
+        List<Path> dataFilePaths = new ArrayList<>();
+        for (String fileName : List.of(JsonStorage.MODULE_FILE_NAME, BinaryStorage.MODULE_FILE_NAME, "data.txt.tmp",
+                NoteStorage.MANIFEST_FILE_NAME)) {
+            Path dataFilePath = noteStorage.getAppendPath(folderPath, fileName);
+            noteStorage.writeFile(dataFilePath, "{}");
+            dataFilePaths.add(dataFilePath);
+        }
+        assertEquals(0, noteStorage.applyChanges(moduleManager, dataFilePaths));
+        assertEquals(2, notes.getTotalContents());
+        assertEquals("data", notes.getContents().get(1).getName());
+    }
+
+    @Test
+    void applyChanges_unsavedNote_kept() throws InvalidFileException {
+        noteStorage.createNoteFile(moduleManager, tempModule);
+        Note note = moduleManager.getModule(tempModule).getContentManager(Note.class).getContents().get(0);
+        note.setData("this is an unsaved test");
+        Path filePath = noteStorage.getAppendPath(
+                noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule), "a.txt");
+        noteStorage.delete(filePath);
+        noteStorage.applyChanges(moduleManager, List.of(filePath));
+        assertEquals("this is an unsaved test",
+                moduleManager.getModule(tempModule).getContentManager(Note.class).getContents().get(0).getData());
+    }
+
+    @Test
+    void moveNotes_folderRenamed_dataReadFromNewFolder() throws InvalidFileException {
+        noteStorage.createNoteFile(moduleManager, tempModule);
+        ContentManager<Note> notes = moduleManager.getModule(tempModule).getContentManager(Note.class);
+        noteStorage.loadNotes(tempModule, notes);
+        Path folderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule);
+        Path newFolderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, "TEST2");
+        noteStorage.renameFolder(folderPath, newFolderPath);
+        NusModule module = moduleManager.getModule(tempModule);
+        moduleManager.removeModule(tempModule);
+        moduleManager.setModule("TEST2", module);
+
+        noteStorage.moveNotes(moduleManager, "TEST2");
+        assertEquals("this is a test", notes.getContents().get(0).getData());
+        noteStorage.delete(newFolderPath);
+    }
+
     @Test
     void loadNoteIntoModuleManager_success() throws InvalidFileException {
         NusModule module = moduleManager.getModule(tempModule);
@@ -149,6 +330,29 @@ public class NoteStorageTest {
         assertEquals(5, noteContentManager.getTotalContents());
     }
 
+    @Test
+    void loadNoteIntoModuleManager_filesChanged_orderKept() throws InvalidFileException {
+        Path folderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule);
+        noteStorage.createFolder(folderPath);
+        for (int i = 1; i <= 3; i++) {
+            noteStorage.writeFile(noteStorage.getAppendPath(folderPath, "a" + i + ".txt"), "test " + i);
+        }
+        noteStorage.loadNoteIntoModuleManager(moduleManager, tempModule);
+        ContentManager<Note> notes = moduleManager.getModule(tempModule).getContentManager(Note.class);
+        List<Note> loadedNotes = List.copyOf(notes.getContents());
+        assertEquals(3, loadedNotes.size());
+
+        noteStorage.delete(loadedNotes.get(1).getFilePath());
+        noteStorage.writeFile(loadedNotes.get(2).getFilePath(), "changed test");
+        noteStorage.writeFile(noteStorage.getAppendPath(folderPath, "b.txt"), "new test");
+        noteStorage.loadNoteIntoModuleManager(moduleManager, tempModule);
+        assertEquals(3, notes.getTotalContents());
+        assertSame(loadedNotes.get(0), notes.getContents().get(0));
+        assertSame(loadedNotes.get(2), notes.getContents().get(1));
+        assertEquals("changed test", notes.getContents().get(1).getData());
+        assertEquals("b", notes.getContents().get(2).getName());
+    }
+
     @Test
     void isValidTextFile_success() {
         Path folderPath = noteStorage.getAppendPath(TestFilePath.RESOURCE_FOLDER, tempModule);
@@ -0,0 +1,70 @@
+package terminus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.TestFilePath;
+import terminus.exception.InvalidFileException;
+
+public class NoteWatcherTest {
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    private Path baseDirectory;
+    private NoteWatcher noteWatcher;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.baseDirectory = TestFilePath.RESOURCE_FOLDER.resolve("watch");
+        Files.createDirectories(baseDirectory.resolve("CS2113"));
+        this.noteWatcher = new NoteWatcher(baseDirectory);
+    }
+
+    @AfterEach
+    void reset() throws InvalidFileException {
+        noteWatcher.close();
+        new Storage().delete(baseDirectory);
+    }
+
+    @Test
+    void pollChanges_burstOfWrites_reportedOnce() throws Exception {
+        noteWatcher.start();
+        Path filePath = baseDirectory.resolve("CS2113").resolve("a.txt");
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(filePath, "this is test " + i);
+        }
+        LinkedHashSet<Path> changes = waitForChanges();
+        assertEquals(1, changes.size());
+        assertTrue(changes.contains(filePath));
+    }
+
+    @Test
+    void pollChanges_newModuleFolder_filesReported() throws Exception {
+        noteWatcher.start();
+        Path folderPath = baseDirectory.resolve("CS2040");
+        Files.createDirectories(folderPath);
+        Path filePath = folderPath.resolve("b.txt");
+        Files.writeString(filePath, "this is a test");
+        assertTrue(waitForChanges().contains(filePath));
+    }
+
+    private LinkedHashSet<Path> waitForChanges() throws InterruptedException {
+        LinkedHashSet<Path> changes = new LinkedHashSet<>();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (changes.isEmpty() || noteWatcher.hasPendingChanges()) {
+            if (System.currentTimeMillis() > deadline) {
+                break;
+            }
+            Thread.sleep(NoteWatcher.DEBOUNCE_MILLIS);
+            changes.addAll(noteWatcher.pollChanges());
+        }
+        return changes;
+    }
+}
@@ -1,20 +1,28 @@
 package terminus.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import terminus.TestFilePath;
 import terminus.command.CommandResult;
+import terminus.common.CommonUtils;
 import terminus.content.ContentManager;
+import terminus.content.Link;
 import terminus.content.Note;
+import terminus.content.Question;
 import terminus.exception.InvalidFileException;
 import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+import terminus.parser.MainCommandParser;
 
 public class StorageManagerTest {
 
@@ -124,6 +132,183 @@ public class StorageManagerTest {
         this.storageManager.save(moduleManager);
     }
 
+    @Test
+    void updateMainJsonFile_noChanges_fileNotWritten() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        Path journalPath = folderPath.resolve("test.journal");
+        this.storageManager = new StorageManager(folderPath, "test.json");
+        storageManager.initialize();
+        moduleManager.addModule(tempModule);
+        storageManager.updateMainJsonFile(moduleManager);
+        storageManager.flush();
+        assertFalse(moduleManager.isModified());
+        assertTrue(Files.exists(journalPath));
+        Storage storage = new Storage();
+        storage.delete(journalPath);
+        storageManager.updateMainJsonFile(moduleManager);
+        storageManager.flush();
+        assertFalse(Files.exists(journalPath));
+        storage.delete(folderPath);
+    }
+
+    @Test
+    void updateMainJsonFile_journalReplayedOnInitialize_success() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        this.storageManager = new StorageManager(folderPath, "test.json");
+        storageManager.initialize();
+        moduleManager.addModule(tempModule);
+        moduleManager.addModule("other");
+        storageManager.updateMainJsonFile(moduleManager);
+        moduleManager.removeModule("other");
+        moduleManager.getModule(tempModule).getContentManager(Question.class).add(new Question("q", "a"));
+        storageManager.updateMainJsonFile(moduleManager);
+        storageManager.flush();
+
+        ModuleManager loaded = new StorageManager(folderPath, "test.json").initialize();
+        assertEquals(1, loaded.getAllModules().length);
+        assertEquals(1, loaded.getModule(tempModule).getContentManager(Question.class).getTotalContents());
+        new Storage().delete(folderPath);
+    }
+
+    @Test
+    void save_compactsJournal_success() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        Path journalPath = folderPath.resolve("test.journal");
+        this.storageManager = new StorageManager(folderPath, "test.json");
+        storageManager.setCompactionThreshold(0);
+        storageManager.initialize();
+        moduleManager.addModule(tempModule);
+        new Storage().createFolder(folderPath.resolve(tempModule));
+        storageManager.updateMainJsonFile(moduleManager);
+        storageManager.save(moduleManager);
+        assertFalse(Files.exists(journalPath));
+
+        ModuleManager loaded = new JsonStorage(folderPath, "test.json").loadJson();
+        assertNotNull(loaded.getModule(tempModule));
+        new Storage().delete(folderPath);
+    }
+
+    @Test
+    void updateMainJsonFile_questionChangedAfterInitialize_linksLoadedFromDataFile() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        moduleManager.addModule(tempModule);
+        moduleManager.getModule(tempModule).getContentManager(Link.class)
+                .add(new Link("lecture", "Monday", LocalTime.of(10, 0), 2, "https://zoom.us/j/1"));
+        new Storage().createFolder(folderPath);
+        new JsonStorage(folderPath, "test.json").saveJson(moduleManager);
+        this.storageManager = new StorageManager(folderPath, "test.json");
+        ModuleManager loaded = storageManager.initialize();
+        loaded.getModule(tempModule).getContentManager(Question.class).add(new Question("q", "a"));
+        storageManager.updateMainJsonFile(loaded);
+        storageManager.flush();
+        assertFalse(loaded.getModule(tempModule).isLoaded(Link.class));
+
+        NusModule module = new StorageManager(folderPath, "test.json").initialize().getModule(tempModule);
+        assertTrue(module.isLoaded(Question.class));
+        assertFalse(module.isLoaded(Link.class));
+        assertEquals(1, module.getContentManager(Question.class).getTotalContents());
+        assertEquals(1, module.getContentManager(Link.class).getTotalContents());
+        new Storage().delete(folderPath);
+    }
+
+    @Test
+    void updateMainJsonFile_repeatedChanges_coalescedIntoOneEntry() throws InvalidFileException, IOException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        Path journalPath = folderPath.resolve("test.journal");
+        this.storageManager = new StorageManager(folderPath, "test.json");
+        storageManager.initialize();
+        moduleManager.addModule(tempModule);
+        for (int i = 0; i < 50; i++) {
+            moduleManager.getModule(tempModule).getContentManager(Question.class).add(new Question("q" + i, "a"));
+            storageManager.updateMainJsonFile(moduleManager);
+        }
+        storageManager.flush();
+        assertTrue(Files.readAllLines(journalPath).size() <= 50);
+
+        ModuleManager loaded = new StorageManager(folderPath, "test.json").initialize();
+        assertEquals(50, loaded.getModule(tempModule).getContentManager(Question.class).getTotalContents());
+        new Storage().delete(folderPath);
+    }
+
+    @Test
+    void initialize_contentsLoadedOnFirstUse_success() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        moduleManager.addModule(tempModule);
+        moduleManager.getModule(tempModule).getContentManager(Question.class).add(new Question("q", "a"));
+        new Storage().createFolder(folderPath);
+        new JsonStorage(folderPath, "test.json").saveJson(moduleManager);
+        this.storageManager = new StorageManager(folderPath, "test.json");
+
+        ModuleManager loaded = storageManager.initialize();
+        NusModule module = loaded.getModule(tempModule);
+        assertFalse(module.isLoaded());
+        assertEquals(1, module.getContentManager(Question.class).getTotalContents());
+        assertTrue(module.isLoaded(Question.class));
+        assertFalse(module.isLoaded(Note.class));
+        assertFalse(loaded.isModified());
+        new Storage().delete(folderPath);
+    }
+
+    @Test
+    void executeCommandResult_renameUnloadedModule_contentsLoadedFromNewFolder() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        moduleManager.addModule(tempModule);
+        moduleManager.getModule(tempModule).getContentManager(Question.class).add(new Question("q", "a"));
+        new Storage().createFolder(folderPath);
+        new JsonStorage(folderPath, "test.json").saveJson(moduleManager);
+        this.storageManager = new StorageManager(folderPath, "test.json");
+
+        ModuleManager loaded = storageManager.initialize();
+        NusModule module = loaded.getModule(tempModule);
+        loaded.removeModule(tempModule);
+        loaded.setModule("RENAMED", module);
+        assertFalse(module.isLoaded(Question.class));
+        CommandResult result = new CommandResult("RENAMED", StorageActionEnum.UPDATE, StorageTypeEnum.FOLDER, "");
+        result.setDeletedItemName(tempModule);
+        storageManager.executeCommandResult(loaded, result);
+        assertEquals(1, module.getContentManager(Question.class).getTotalContents());
+        new Storage().delete(folderPath);
+    }
+
+    @Test
+    void initialize_mainReminder_modulesNotLoaded() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        moduleManager.addModule(tempModule);
+        moduleManager.addModule("other");
+        moduleManager.getModule(tempModule).getContentManager(Link.class)
+                .add(new Link("lecture", CommonUtils.getCurrentDay(), LocalTime.of(10, 0), 2, "https://zoom.us/j/1"));
+        moduleManager.getModule("other").getContentManager(Question.class).add(new Question("q", "a"));
+        new Storage().createFolder(folderPath);
+        new JsonStorage(folderPath, "test.json").saveJson(moduleManager);
+        this.storageManager = new StorageManager(folderPath, "test.json");
+
+        ModuleManager loaded = storageManager.initialize();
+        String reminder = MainCommandParser.getInstance().getMainReminder(loaded);
+        assertTrue(reminder.contains("lecture"));
+        assertFalse(loaded.getModule(tempModule).isLoaded(Link.class));
+        assertFalse(loaded.getModule("other").isLoaded(Link.class));
+        assertFalse(loaded.getModule("other").isLoaded(Question.class));
+        assertEquals(1, loaded.getModule(tempModule).getContentManager(Link.class).getTotalContents());
+        new Storage().delete(folderPath);
+    }
+
+    @Test
+    void initialize_notesLoadedInBackground_success() throws InvalidFileException {
+        Path folderPath = RESOURCE_FOLDER.resolve(tempModule);
+        moduleManager.addModule(tempModule);
+        new Storage().createFolder(folderPath.resolve(tempModule));
+        new Storage().writeFile(folderPath.resolve(tempModule).resolve("test.txt"), "hello");
+        new JsonStorage(folderPath, "test.json").saveJson(moduleManager);
+        this.storageManager = new StorageManager(folderPath, "test.json");
+
+        ModuleManager loaded = storageManager.initialize();
+        ContentManager<Note> notes = loaded.getModule(tempModule).getContentManager(Note.class);
+        assertEquals(1, notes.getTotalContents());
+        assertEquals("hello", notes.getContents().get(0).getData());
+        assertFalse(loaded.isModified());
+        new Storage().delete(folderPath);
+    }
+
     @Test
     void save_nullInput_exceptionThrown() {
         assertThrows(InvalidFileException.class, () -> this.storageManager.save(null));
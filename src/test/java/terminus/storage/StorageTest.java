@@ -11,6 +11,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import org.junit.jupiter.api.AfterEach;
@@ -170,6 +171,83 @@ public class StorageTest {
         assertThrows(InvalidFileException.class, () -> storage.writeFile(filePath, "test1"));
     }
 
+    @Test
+    void writeFile_overwrite_noTempFileLeft() throws InvalidFileException {
+        Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
+        Path filePath = storage.getAppendPath(folderPath, "test1.txt");
+        storage.createFolder(folderPath);
+        for (FsyncPolicyEnum policy : FsyncPolicyEnum.values()) {
+            storage.setFsyncPolicy(policy);
+            storage.writeFile(filePath, "hello " + policy);
+            assertEquals("hello " + policy, storage.readFile(filePath));
+        }
+        assertEquals(1, storage.getListOfFiles(folderPath).length);
+        storage.delete(folderPath);
+    }
+
+    @Test
+    void writeFile_directoryGiven_exceptionThrown() throws InvalidFileException {
+        Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
+        storage.createFolder(folderPath);
+        assertThrows(InvalidFileException.class, () -> storage.writeFile(folderPath, "hello"));
+        assertTrue(Files.isDirectory(folderPath));
+        storage.delete(folderPath);
+    }
+
+    @Test
+    void writeStream_success() throws InvalidFileException {
+        Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
+        Path filePath = storage.getAppendPath(folderPath, "test1.txt");
+        storage.createFolder(folderPath);
+        String data = "hello ".repeat(100000);
+        storage.writeStream(filePath, output -> output.write(data.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(data, storage.readFile(filePath));
+        storage.delete(folderPath);
+    }
+
+    @Test
+    void writeStream_writerFailed_originalFileKept() throws InvalidFileException {
+        Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
+        Path filePath = storage.getAppendPath(folderPath, "test1.txt");
+        storage.createFolder(folderPath);
+        storage.writeFile(filePath, "hello");
+        assertThrows(InvalidFileException.class, () -> storage.writeStream(filePath, output -> {
+            output.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("failed");
+        }));
+        assertEquals("hello", storage.readFile(filePath));
+        assertEquals(1, storage.getListOfFiles(folderPath).length);
+        storage.delete(folderPath);
+    }
+
+    @Test
+    void appendFile_success() throws InvalidFileException {
+        Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
+        Path filePath = storage.getAppendPath(folderPath, "test1.txt");
+        storage.createFolder(folderPath);
+        storage.appendFile(filePath, "hello");
+        storage.appendFile(filePath, " world");
+        assertEquals("hello world", storage.readFile(filePath));
+        assertThrows(InvalidFileException.class, () -> storage.appendFile(filePath, null));
+        storage.delete(folderPath);
+    }
+
+    @Test
+    void truncateIncompleteLine_success() throws InvalidFileException {
+        Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
+        Path filePath = storage.getAppendPath(folderPath, "test1.txt");
+        storage.createFolder(folderPath);
+        assertEquals(0, storage.truncateIncompleteLine(filePath));
+        storage.appendFile(filePath, "first\nsecond\nthi");
+        assertEquals(3, storage.truncateIncompleteLine(filePath));
+        assertEquals("first\nsecond\n", storage.readFile(filePath));
+        assertEquals(0, storage.truncateIncompleteLine(filePath));
+        storage.writeFile(filePath, "no line");
+        assertEquals(7, storage.truncateIncompleteLine(filePath));
+        assertEquals("", storage.readFile(filePath));
+        storage.delete(folderPath);
+    }
+
     @Test
     void delete_success() throws InvalidFileException {
         Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
@@ -287,20 +365,6 @@ public class StorageTest {
         storage.delete(folderPath);
     }
 
-    @Test
-    void getFileType_success() throws InvalidFileException {
-        Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
-        Path filePath = storage.getAppendPath(folderPath, "test1.txt");
-        File file = new File(filePath.toString());
-        String result = storage.getFileType(file);
-        assertEquals("text/plain", result);
-    }
-
-    @Test
-    void getFileType_nullInput_exceptionThrown() {
-        assertThrows(InvalidFileException.class, () -> storage.getFileType(null));
-    }
-
     @Test
     void renameFolder_success() throws InvalidFileException {
         Path folderPath = storage.getAppendPath(RESOURCE_FOLDER, tempModule);
@@ -0,0 +1,87 @@
+package terminus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.TestFilePath;
+import terminus.exception.InvalidFileException;
+
+public class TextFileDetectorTest {
+
+    private Path folderPath;
+    private TextFileDetector detector;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.folderPath = TestFilePath.RESOURCE_FOLDER.resolve("DETECT");
+        Files.createDirectories(folderPath);
+        this.detector = new TextFileDetector();
+    }
+
+    @AfterEach
+    void reset() throws InvalidFileException {
+        new Storage().delete(folderPath);
+    }
+
+    @Test
+    void isTextFile_utf8TextFile_true() throws IOException {
+        Path filePath = folderPath.resolve("a.txt");
+        Files.writeString(filePath, "this is a test é 中\n".repeat(1000), StandardCharsets.UTF_8);
+        assertTrue(detector.isTextFile(filePath.toFile()));
+        assertTrue(detector.isTextFile(folderPath.resolve("missing.TXT").toFile()));
+    }
+
+    @Test
+    void isTextFile_binaryOrOtherExtension_false() throws IOException {
+        Path binaryPath = folderPath.resolve("a.txt");
+        Files.write(binaryPath, new byte[] {'a', 0, 'b'});
+        assertFalse(detector.isTextFile(binaryPath.toFile()));
+        Path invalidPath = folderPath.resolve("b.txt");
+        Files.write(invalidPath, new byte[] {'a', (byte) 0xC3});
+        assertFalse(detector.isTextFile(invalidPath.toFile()));
+        Path otherPath = folderPath.resolve("c.ser");
+        Files.writeString(otherPath, "this is a test");
+        assertFalse(detector.isTextFile(otherPath.toFile()));
+        assertFalse(detector.isTextFile(null));
+    }
+
+    @Test
+    void isTextFile_fileChanged_checkedAgain() throws IOException {
+        Path filePath = folderPath.resolve("a.txt");
+        Files.writeString(filePath, "this is a test");
+        File file = filePath.toFile();
+        assertTrue(detector.isTextFile(file));
+        Files.write(filePath, new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+        assertFalse(detector.isTextFile(file));
+    }
+
+    @Test
+    void forget_fileAndFolder_checkedAgain() throws IOException {
+        Path filePath = folderPath.resolve("a.txt");
+        Files.writeString(filePath, "test");
+        File file = filePath.toFile();
+        long lastModified = file.lastModified();
+        assertTrue(detector.isTextFile(file));
+
+        // The same size and last modified time hide the change until the cached result is forgotten
+        Files.write(filePath, new byte[] {0, 0, 0, 0});
+        assertTrue(file.setLastModified(lastModified));
+        assertTrue(detector.isTextFile(file));
+        detector.forget(filePath);
+        assertFalse(detector.isTextFile(file));
+
+        Files.writeString(filePath, "test");
+        assertTrue(file.setLastModified(lastModified));
+        assertFalse(detector.isTextFile(file));
+        detector.forgetFolder(folderPath);
+        assertTrue(detector.isTextFile(file));
+    }
+}
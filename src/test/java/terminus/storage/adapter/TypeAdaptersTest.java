@@ -0,0 +1,112 @@
+package terminus.storage.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import terminus.content.Link;
+import terminus.content.Question;
+import terminus.module.ModuleManager;
+import terminus.module.NusModule;
+
+public class TypeAdaptersTest {
+
+    private Gson gson;
+
+    @BeforeEach
+    void setup() {
+        this.gson = TypeAdapters.createGsonBuilder().create();
+    }
+
+    @Test
+    void link_roundTrip_success() {
+        Link link = new Link("tutorial", "Monday", LocalTime.of(9, 30), 2, "https://zoom.us/");
+        String json = gson.toJson(link);
+        assertEquals("{\"name\":\"tutorial\",\"day\":\"Monday\",\"startTime\":\"09:30\",\"duration\":2,"
+                + "\"link\":\"https://zoom.us/\"}", json);
+        Link loaded = gson.fromJson(json, Link.class);
+        assertEquals("tutorial", loaded.getName());
+        assertEquals("Monday", loaded.getDay());
+        assertEquals(LocalTime.of(9, 30), loaded.getStartTime());
+        assertEquals(2, loaded.getDuration());
+        assertEquals("https://zoom.us/", loaded.getLink());
+    }
+
+    @Test
+    void link_legacyStartTime_success() {
+        String json = "{\"day\":\"tuesday\",\"startTime\":{\"hour\":11,\"minute\":11,\"second\":0,\"nano\":0},"
+                + "\"duration\":2,\"link\":\"https://zoom.us/\",\"name\":\"test\"}";
+        assertEquals(LocalTime.of(11, 11), gson.fromJson(json, Link.class).getStartTime());
+    }
+
+    @Test
+    void link_invalidStartTime_nullStartTime() {
+        String legacyJson = "{\"startTime\":{\"hour\":99,\"minute\":11,\"second\":0,\"nano\":0}}";
+        assertNull(gson.fromJson(legacyJson, Link.class).getStartTime());
+        assertNull(gson.fromJson("{\"startTime\":\"25:00\"}", Link.class).getStartTime());
+    }
+
+    @Test
+    void link_nullFields_omitted() {
+        Link link = new Link("test", null, null, 1, null);
+        String json = gson.toJson(link);
+        assertEquals("{\"name\":\"test\",\"duration\":1}", json);
+        assertNull(gson.fromJson(json, Link.class).getStartTime());
+    }
+
+    @Test
+    void question_roundTrip_success() {
+        Question question = new Question("what is 1+1?", "2");
+        question.setWeight(0.25);
+        Question loaded = gson.fromJson(gson.toJson(question), Question.class);
+        assertEquals("what is 1+1?", loaded.getQuestion());
+        assertEquals("2", loaded.getAnswer());
+        assertEquals(0.25, loaded.getWeight());
+    }
+
+    @Test
+    void nusModule_roundTrip_notModified() {
+        NusModule module = new NusModule();
+        module.getContentManager(Link.class).add(new Link("test", "Friday", LocalTime.of(8, 0), 1,
+                "https://zoom.us/"));
+        module.getContentManager(Question.class).add(new Question("q", "a"));
+        NusModule loaded = gson.fromJson(gson.toJson(module), NusModule.class);
+        assertEquals(1, loaded.getContentManager(Link.class).getTotalContents());
+        assertEquals(1, loaded.getContentManager(Question.class).getTotalContents());
+        assertFalse(loaded.isModified());
+    }
+
+    @Test
+    void nusModule_unknownFields_skipped() {
+        String json = "{\"noteManager\":{\"contents\":[{\"name\":\"n\",\"data\":\"d\"}]},"
+                + "\"linkManager\":null,\"questionManager\":{\"contents\":null}}";
+        NusModule loaded = gson.fromJson(json, NusModule.class);
+        assertEquals(0, loaded.getContentManager(Link.class).getTotalContents());
+        assertEquals(0, loaded.getContentManager(Question.class).getTotalContents());
+    }
+
+    @Test
+    void moduleManager_roundTrip_success() {
+        ModuleManager moduleManager = new ModuleManager();
+        moduleManager.addModule("CS2113");
+        moduleManager.getModule("CS2113").getContentManager(Question.class).add(new Question("q", "a"));
+        ModuleManager loaded = gson.fromJson(gson.toJson(moduleManager), ModuleManager.class);
+        assertEquals(1, loaded.getAllModules().length);
+        assertEquals(1, loaded.getModule("CS2113").getContentManager(Question.class).getTotalContents());
+    }
+
+    @Test
+    void moduleManager_storedNames_notConverted() {
+        String json = "{\"moduleMap\":{\"lowercase\":{},\"VALID\":null}}";
+        ModuleManager loaded = gson.fromJson(json, ModuleManager.class);
+        assertEquals(2, loaded.getAllModules().length);
+        assertTrue(List.of(loaded.getAllModules()).contains("lowercase"));
+        assertNull(loaded.getModule("VALID"));
+    }
+}